@@ -0,0 +1,61 @@
+package com.example.taskmanagementsystem.cache;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine regions of the Hibernate second-level cache. Every region is bounded in size, and entries
+ * expire after a while so that rows changed outside of this application do not stay stale forever;
+ * changes made through Hibernate evict the entries themselves.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final List<String> REGIONS = List.of(
+            User.CACHE_REGION,
+            User.NATURAL_ID_CACHE_REGION,
+            Task.CACHE_REGION,
+            Task.ASSIGNEES_CACHE_REGION);
+
+    /**
+     * A cache manager of its own: the provider hands out one shared manager per URI,
+     * which would mix up the regions of two application contexts in one JVM.
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${persistence.second-level-cache.max-size:10000}") long maxSize,
+            @Value("${persistence.second-level-cache.ttl-seconds:600}") long ttlSeconds) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.taskmanagementsystem.controllers;
 
 import com.example.taskmanagementsystem.models.User;
 import com.example.taskmanagementsystem.security.JwtProvider;
+import com.example.taskmanagementsystem.security.PasswordHashingRejectedException;
 import com.example.taskmanagementsystem.security.dto.AuthRequest;
 import com.example.taskmanagementsystem.security.dto.AuthResponse;
 import com.example.taskmanagementsystem.security.dto.RegistrationRequest;
@@ -39,7 +40,8 @@ public class AuthController {
     @Operation(summary = "User registration.", description = "Allows to register a user in the system.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User registered", content = @Content),
-            @ApiResponse(responseCode = "400", description = "Invalid Input Data", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid Input Data", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Too many requests, retry later", content = @Content)
     })
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody @Valid RegistrationRequest registrationRequest){
@@ -51,6 +53,8 @@ public class AuthController {
                     .build();
             userService.saveUser(user);
             return ResponseEntity.ok().build();
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -61,7 +65,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Authorisation successful",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = AuthResponse.class)) }),
-            @ApiResponse(responseCode = "400", description = "Invalid Input Data", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid Input Data", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Too many requests, retry later", content = @Content)
     })
     @PostMapping("/auth")
     public ResponseEntity<AuthResponse> auth(@RequestBody @Valid AuthRequest authRequest) {
@@ -70,6 +75,8 @@ public class AuthController {
             String token = jwtProvider.generateToken(user.getEmail());
             AuthResponse response = AuthResponse.builder().token(token).build();
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
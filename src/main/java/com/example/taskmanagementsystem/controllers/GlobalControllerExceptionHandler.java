@@ -1,9 +1,15 @@
 package com.example.taskmanagementsystem.controllers;
 
+import com.example.taskmanagementsystem.search.TaskSearchTimeoutException;
+import com.example.taskmanagementsystem.security.PasswordHashingRejectedException;
+import com.example.taskmanagementsystem.services.TaskVersionMismatchException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.java.Log;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -27,4 +33,49 @@ public class GlobalControllerExceptionHandler {
         log.severe(ex.getMessage());
         return  ResponseEntity.notFound().build();
     }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        log.warning(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    /**
+     * No database connection became free within the pool's connection timeout.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<?> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+        log.warning(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    /**
+     * The task changed between being read and written by this request.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warning(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * The {@code If-Match} ETag is not the version of the task, answered with the current one when known.
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<?> handleTaskVersionMismatch(TaskVersionMismatchException ex) {
+        log.warning(ex.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED);
+        if (ex.getCurrentVersion() != null)
+            response.eTag(TaskPreconditions.eTagOf(ex.getCurrentVersion()));
+        return response.build();
+    }
+
+    /**
+     * The search did not complete within its latency budget.
+     */
+    @ExceptionHandler(TaskSearchTimeoutException.class)
+    public ResponseEntity<?> handleTaskSearchTimeout(TaskSearchTimeoutException ex) {
+        log.warning(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
 }
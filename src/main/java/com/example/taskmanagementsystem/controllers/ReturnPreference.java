@@ -0,0 +1,58 @@
+package com.example.taskmanagementsystem.controllers;
+
+import java.util.Locale;
+
+/**
+ * The {@code return} preference of the {@code Prefer} request header (RFC 7240).
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public enum ReturnPreference {
+    MINIMAL("minimal"),
+    REPRESENTATION("representation");
+
+    public static final String PREFER_HEADER = "Prefer";
+    public static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+    private final String value;
+
+    ReturnPreference(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getHeaderValue() {
+        return "return=" + value;
+    }
+
+    /**
+     * @return the preference requested in the header, or {@code null} if the header has no known {@code return}
+     */
+    public static ReturnPreference fromHeader(String prefer) {
+        if (prefer == null)
+            return null;
+        for (String preference : prefer.split("[,;]")) {
+            String[] pair = preference.trim().toLowerCase(Locale.ROOT).split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equals("return")) {
+                String value = pair[1].trim().replace("\"", "");
+                for (ReturnPreference returnPreference : values()) {
+                    if (returnPreference.value.equals(value))
+                        return returnPreference;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static ReturnPreference fromValue(String value) {
+        for (ReturnPreference returnPreference : values()) {
+            if (returnPreference.value.equalsIgnoreCase(value))
+                return returnPreference;
+        }
+        throw new IllegalArgumentException("Invalid return preference: " + value);
+    }
+}
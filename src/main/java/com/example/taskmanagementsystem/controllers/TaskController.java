@@ -1,13 +1,24 @@
 package com.example.taskmanagementsystem.controllers;
 
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskFilter;
+import com.example.taskmanagementsystem.dto.task.TaskPageResponse;
+import com.example.taskmanagementsystem.dto.task.TaskPatchRequest;
 import com.example.taskmanagementsystem.dto.task.TaskRequest;
 import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+import com.example.taskmanagementsystem.dto.task.TaskSearchResponse;
+import com.example.taskmanagementsystem.dto.task.TaskStatistics;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
 import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.security.CurrentUser;
 import com.example.taskmanagementsystem.security.dto.AuthResponse;
+import com.example.taskmanagementsystem.services.TaskSearchService;
 import com.example.taskmanagementsystem.services.TaskService;
-import com.example.taskmanagementsystem.services.UserService;
+import com.example.taskmanagementsystem.services.TaskStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -22,10 +33,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -45,23 +56,94 @@ public class TaskController {
     private TaskService taskService;
 
     @Autowired
-    private UserService userService;
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
 
     @Autowired
     private TaskDtoConverter taskDtoConverter;
 
-    @Operation(summary = "Getting all the tasks.", description = "Allows to get all the tasks.")
+    @Autowired
+    private TaskWriteResponses taskWriteResponses;
+
+    @Autowired
+    private TaskPreconditions taskPreconditions;
+
+    @Operation(summary = "Getting a page of tasks.",
+            description = "Allows to get tasks page by page, ordered by id and optionally filtered. " +
+                    "Pass the returned next-cursor to get the following page.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/taskResponseSchema")))),
+                            schema = @Schema(implementation = TaskPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/")
-    public ResponseEntity<List<TaskResponse>> getAllTasks(){
-        List<TaskResponse> tasks = taskService.findAllTasks().stream()
+    public ResponseEntity<TaskPageResponse> getAllTasks(
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Id of the last task of the previous page.") Long cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Parameter(description = "Page size.\n\nMinimum value 1.\n\nMaximum value 100.") Integer size,
+            @RequestParam(name = "status-value", required = false)
+            @Parameter(description = "Task status value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer statusValue,
+            @RequestParam(name = "priority-value", required = false)
+            @Parameter(description = "Task priority value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer priorityValue,
+            @RequestParam(name = "author-id", required = false)
+            @Parameter(description = "Task author identifier.") Long authorId,
+            @RequestParam(name = "assignee-id", required = false)
+            @Parameter(description = "Task assignee identifier.") Long assigneeId){
+        TaskFilter filter = TaskFilter.builder()
+                .status(statusValue != null ? TaskStatus.getByValue(statusValue) : null)
+                .priority(priorityValue != null ? TaskPriority.getByValue(priorityValue) : null)
+                .authorId(authorId)
+                .assigneeId(assigneeId)
+                .build();
+        List<TaskResponse> tasks = taskService.findTasksPage(filter, cursor, size).stream()
                 .map(taskDtoConverter::convertDtoToResponse).toList();
-        return ResponseEntity.ok(tasks);
+        Long nextCursor = tasks.size() == size ? tasks.get(tasks.size() - 1).getId() : null;
+        return ResponseEntity.ok(new TaskPageResponse(tasks, nextCursor));
+    }
+
+    @Operation(summary = "Searching tasks.",
+            description = "Allows to find the tasks whose title and description, or one of whose comments, contain " +
+                    "every word of the query. The tasks are ordered by relevance, a title match ranks above a " +
+                    "description match, which ranks above a comment match. The matched words are wrapped in " +
+                    "<mark> tags. Only the first 1000 hits are paged.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content),
+            @ApiResponse(responseCode = "503", description = "The search took longer than its budget", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam(name = "q")
+            @Parameter(description = "Words to find.\n\nMaximum length 200.") String query,
+            @RequestParam(name = "page", defaultValue = "0")
+            @Parameter(description = "Page number, starting at 0.") Integer page,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Parameter(description = "Page size.\n\nMinimum value 1.\n\nMaximum value 100.") Integer size){
+        List<TaskSearchHit> hits = taskSearchService.searchTasks(query, page, size);
+        boolean more = hits.size() == size && (long) (page + 2) * size <= TaskSearchService.MAX_HITS;
+        return ResponseEntity.ok(new TaskSearchResponse(hits, more ? page + 1 : null));
+    }
+
+    @Operation(summary = "Getting statistics of all tasks.",
+            description = "Allows to get the number of tasks per status and priority. " +
+                    "The counts may be a few seconds old, see computed-at.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/statistics")
+    public ResponseEntity<TaskStatistics> getTaskStatistics(){
+        return ResponseEntity.ok(taskStatisticsService.findTaskStatistics());
     }
 
     @Operation(summary = "Getting task by Id.", description = "Allows to get task by Id.")
@@ -69,12 +151,17 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable @Parameter(description = "Task identifier.") Long id){
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable @Parameter(description = "Task identifier.") Long id,
+                                                    WebRequest request){
+        TaskDto taskDto = taskService.findTaskById(id);
+        if (taskPreconditions.notModified(request, taskDto.getVersion()))
+            return null;
+        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskDto);
         return ResponseEntity.ok(task);
     }
 
@@ -88,9 +175,7 @@ public class TaskController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PostMapping("/")
-    public ResponseEntity<TaskResponse> addTask(@RequestBody TaskRequest taskRequest) throws URISyntaxException {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.findByEmail(userDetails.getUsername());
+    public ResponseEntity<TaskResponse> addTask(@RequestBody TaskRequest taskRequest, @CurrentUser User user) throws URISyntaxException {
         TaskDto taskDto = taskDtoConverter.convertRequestToDto(taskRequest);
         taskDto.setAuthor(user);
         TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.createTask(taskDto));
@@ -98,17 +183,78 @@ public class TaskController {
         return ResponseEntity.created(location).body(task);
     }
 
+    @Operation(summary = "Creating tasks in a batch.",
+            description = "Allows to create up to 5000 tasks at once. Every task is validated on its own, " +
+                    "the result of each task request is returned at its index.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskBatchResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> addTasks(@RequestBody List<TaskRequest> taskRequests,
+                                                          @CurrentUser User user) {
+        return ResponseEntity.ok(taskService.createTasks(taskRequests, user));
+    }
+
+    @Operation(summary = "Patching task by Id.",
+            description = "Allows to change several fields of the task at once with a JSON Merge Patch. " +
+                    "Changing anything but the status requires the task author.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(
+            @PathVariable @Parameter(description = "Task identifier.") Long id,
+            @RequestBody TaskPatchRequest patch,
+            @RequestParam(name = "include-comments", defaultValue = "true")
+            @Parameter(description = "Whether to return the task comments.") boolean includeComments,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = TaskFieldController.PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request){
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        return taskWriteResponses.respond(prefer, taskService.patchTaskById(id, patch, user, expectedVersion,
+                taskWriteResponses.withRepresentation(prefer)), includeComments);
+    }
+
     @Operation(summary = "Deleting task by Id.", description = "Allows to delete task by Id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK"),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTask(@PathVariable @Parameter(description = "Task identifier.") Long id){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.findByEmail(userDetails.getUsername());
-        taskService.deleteTaskById(id, user);
+    public ResponseEntity<?> deleteTask(@PathVariable @Parameter(description = "Task identifier.") Long id, @CurrentUser User user,
+                                        WebRequest request){
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        taskService.deleteTaskById(id, user, expectedVersion);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "Deleting tasks in a batch.",
+            description = "Allows to delete up to 5000 tasks at once together with their comments. " +
+                    "Nothing is deleted unless the user is the author of every task.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @PostMapping("/batch/delete")
+    public ResponseEntity<?> deleteTasks(@RequestBody @Parameter(description = "Task identifiers.") List<Long> ids,
+                                         @CurrentUser User user){
+        taskService.deleteTasksByIds(ids, user);
         return ResponseEntity.ok().build();
     }
 }
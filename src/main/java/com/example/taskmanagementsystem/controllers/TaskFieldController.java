@@ -1,17 +1,25 @@
 package com.example.taskmanagementsystem.controllers;
 
+import com.example.taskmanagementsystem.dto.comment.CommentCursor;
 import com.example.taskmanagementsystem.dto.comment.CommentDto;
 import com.example.taskmanagementsystem.dto.comment.CommentDtoConverter;
+import com.example.taskmanagementsystem.dto.comment.CommentPageResponse;
 import com.example.taskmanagementsystem.dto.comment.CommentResponse;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
 import com.example.taskmanagementsystem.dto.user.UserResponse;
+import com.example.taskmanagementsystem.dto.user.UserResponseConverter;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
 import com.example.taskmanagementsystem.dto.task.TaskResponse;
 import com.example.taskmanagementsystem.models.TaskPriority;
 import com.example.taskmanagementsystem.models.TaskStatus;
 import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorView;
+import com.example.taskmanagementsystem.repositories.projections.TaskDescriptionView;
+import com.example.taskmanagementsystem.repositories.projections.TaskPriorityView;
+import com.example.taskmanagementsystem.repositories.projections.TaskStatusView;
+import com.example.taskmanagementsystem.repositories.projections.TaskTitleView;
+import com.example.taskmanagementsystem.security.CurrentUser;
 import com.example.taskmanagementsystem.services.TaskService;
-import com.example.taskmanagementsystem.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,10 +29,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -39,11 +47,11 @@ import java.util.Map;
 @Tag(name = "Task Api")
 @Log
 public class TaskFieldController {
-    @Autowired
-    private TaskService taskService;
+    static final String PREFER_DESCRIPTION = "return=minimal to get 204 with an ETag instead of the whole task, " +
+            "return=representation to get the task.";
 
     @Autowired
-    private UserService userService;
+    private TaskService taskService;
 
     @Autowired
     private TaskDtoConverter taskDtoConverter;
@@ -51,6 +59,15 @@ public class TaskFieldController {
     @Autowired
         private CommentDtoConverter commentDtoConverter;
 
+    @Autowired
+    private TaskWriteResponses taskWriteResponses;
+
+    @Autowired
+    private TaskPreconditions taskPreconditions;
+
+    @Autowired
+    private UserResponseConverter userResponseConverter;
+
     @Operation(summary = "Getting task id.", description = "Allows to get task id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
@@ -62,8 +79,7 @@ public class TaskFieldController {
     @GetMapping("/id")
     public ResponseEntity<Map<String, Long>> getId(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
-        return ResponseEntity.ok(getResponse("id", task.getId()));
+        return ResponseEntity.ok(getResponse("id", taskService.findTaskIdById(taskId)));
     }
 
     @Operation(summary = "Getting task title.", description = "Allows to get task title.")
@@ -72,12 +88,16 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/titleSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/title")
     public ResponseEntity<Map<String, String>> getTitle(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskTitleView task = taskService.findTaskTitleById(taskId);
+        if (taskPreconditions.notModified(request, task.getVersion()))
+            return null;
         return ResponseEntity.ok(getResponse("title", task.getTitle()));
     }
 
@@ -86,18 +106,23 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PutMapping("/title")
     public ResponseEntity<TaskResponse> updateTitle(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
-            @RequestParam @Parameter(description = "Task title.\nMaximum length 255.") String title) {
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.updateTaskTitleById(taskId, title, user));
-        return ResponseEntity.ok(task);
+            @RequestParam @Parameter(description = "Task title.\nMaximum length 255.") String title,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        return taskWriteResponses.respond(prefer, taskService.updateTaskTitleById(taskId, title, user, expectedVersion,
+                taskWriteResponses.withRepresentation(prefer)));
     }
 
     @Operation(summary = "Getting task description.", description = "Allows to get task description.")
@@ -106,12 +131,16 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/descriptionSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/description")
     public ResponseEntity<Map<String, String>> getDescription(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskDescriptionView task = taskService.findTaskDescriptionById(taskId);
+        if (taskPreconditions.notModified(request, task.getVersion()))
+            return null;
         return ResponseEntity.ok(getResponse("description", task.getDescription()));
     }
 
@@ -120,18 +149,23 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PutMapping("/description")
     public ResponseEntity<TaskResponse> updateDescription(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
-            @RequestParam @Parameter(description = "Task description.") String description) {
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.updateTaskDescriptionById(taskId, description, user));
-        return ResponseEntity.ok(task);
+            @RequestParam @Parameter(description = "Task description.") String description,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        return taskWriteResponses.respond(prefer, taskService.updateTaskDescriptionById(taskId, description, user, expectedVersion,
+                taskWriteResponses.withRepresentation(prefer)));
     }
 
     @Operation(summary = "Getting task status.", description = "Allows to get task status.")
@@ -140,12 +174,16 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/statusSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/status")
     public ResponseEntity<Map<String, TaskStatus>> getStatus(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskDto task = taskService.findTaskById(taskId);
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskStatusView task = taskService.findTaskStatusById(taskId);
+        if (taskPreconditions.notModified(request, task.getVersion()))
+            return null;
         return ResponseEntity.ok(getResponse("status", task.getStatus()));
     }
 
@@ -154,19 +192,24 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PutMapping("/status")
     public ResponseEntity<TaskResponse> updateStatus(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
             @RequestParam(name = "status-value")
-            @Parameter(description = "Task status value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer statusValue) {
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.updateTaskStatusById(taskId, statusValue, user));
-        return ResponseEntity.ok(task);
+            @Parameter(description = "Task status value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer statusValue,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        return taskWriteResponses.respond(prefer, taskService.updateTaskStatusById(taskId, statusValue, user, expectedVersion,
+                taskWriteResponses.withRepresentation(prefer)));
     }
 
     @Operation(summary = "Getting task priority.", description = "Allows to get task priority.")
@@ -175,12 +218,16 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/prioritySchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/priority")
     public ResponseEntity<Map<String, TaskPriority>> getPriority(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskDto task = taskService.findTaskById(taskId);
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskPriorityView task = taskService.findTaskPriorityById(taskId);
+        if (taskPreconditions.notModified(request, task.getVersion()))
+            return null;
         return ResponseEntity.ok(getResponse("priority", task.getPriority()));
     }
 
@@ -189,19 +236,24 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PutMapping("/priority")
     public ResponseEntity<TaskResponse> updatePriority(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
             @RequestParam(name = "priority-value")
-            @Parameter(description = "Task priority value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer priorityValue) {
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.updateTaskPriorityById(taskId, priorityValue, user));
-        return ResponseEntity.ok(task);
+            @Parameter(description = "Task priority value.\n\nMinimum value 1.\n\nMaximum value 3.") Integer priorityValue,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        return taskWriteResponses.respond(prefer, taskService.updateTaskPriorityById(taskId, priorityValue, user, expectedVersion,
+                taskWriteResponses.withRepresentation(prefer)));
     }
 
     @Operation(summary = "Getting task author.", description = "Allows to get task author.")
@@ -210,13 +262,18 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/authorSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/author")
     public ResponseEntity<Map<String, UserResponse>> getAuthor(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
-        return ResponseEntity.ok(getResponse("author", task.getAuthor()));
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskAuthorView task = taskService.findTaskAuthorById(taskId);
+        if (taskPreconditions.notModified(request, task.getVersion()))
+            return null;
+        UserResponse author = userResponseConverter.convertUserToResponse(task.getAuthor());
+        return ResponseEntity.ok(getResponse("author", author));
     }
 
     @Operation(summary = "Getting task assignees.", description = "Allows to get task assignees.")
@@ -225,12 +282,17 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/assigneesSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/assignees")
     public ResponseEntity<Map<String, List<UserResponse>>> getAssignees(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskDto taskDto = taskService.findTaskById(taskId);
+        if (taskPreconditions.notModified(request, taskDto.getVersion()))
+            return null;
+        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskDto);
         return ResponseEntity.ok(getResponse("assignees", task.getAssignees()));
     }
 
@@ -239,8 +301,10 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PostMapping("/assignees")
@@ -249,17 +313,19 @@ public class TaskFieldController {
             @RequestParam(name = "assignee-id", required = false)
             @Parameter(description = "Task assignee identifier.") Long assigneeId,
             @RequestParam(name = "assignee-email", required = false)
-            @Parameter(description = "Task assignee email.\n\nMaximum length 255.") String assigneeEmail) {
-        User user = getUserOutOfContext();
+            @Parameter(description = "Task assignee email.\n\nMaximum length 255.") String assigneeEmail,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
         if (assigneeId != null) {
-            TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                    taskService.appendAssigneeByIdInTask(taskId, assigneeId, user));
-            return ResponseEntity.ok(task);
+            return taskWriteResponses.respond(prefer, taskService.appendAssigneeByIdInTask(taskId, assigneeId, user, expectedVersion,
+                    taskWriteResponses.withRepresentation(prefer)));
         }
         else if (assigneeEmail != null) {
-            TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                    taskService.appendAssigneeByEmailInTask(taskId, assigneeEmail, user));
-            return ResponseEntity.ok(task);
+            return taskWriteResponses.respond(prefer, taskService.appendAssigneeByEmailInTask(taskId, assigneeEmail, user, expectedVersion,
+                    taskWriteResponses.withRepresentation(prefer)));
         }
         else
             return ResponseEntity.badRequest().build();
@@ -270,8 +336,10 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @DeleteMapping("/assignees")
@@ -280,17 +348,19 @@ public class TaskFieldController {
             @RequestParam(name = "assignee-id", required = false)
             @Parameter(description = "Task assignee identifier.") Long assigneeId,
             @RequestParam(name = "assignee-email", required = false)
-            @Parameter(description = "Task assignee email.\n\nMaximum length 255.") String assigneeEmail) {
-        User user = getUserOutOfContext();
+            @Parameter(description = "Task assignee email.\n\nMaximum length 255.") String assigneeEmail,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
         if (assigneeId != null) {
-            TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                    taskService.removeAssigneeByIdInTask(taskId, assigneeId, user));
-            return ResponseEntity.ok(task);
+            return taskWriteResponses.respond(prefer, taskService.removeAssigneeByIdInTask(taskId, assigneeId, user, expectedVersion,
+                    taskWriteResponses.withRepresentation(prefer)));
         }
         else if (assigneeEmail != null) {
-            TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                    taskService.removeAssigneeByEmailInTask(taskId, assigneeEmail, user));
-            return ResponseEntity.ok(task);
+            return taskWriteResponses.respond(prefer, taskService.removeAssigneeByEmailInTask(taskId, assigneeEmail, user, expectedVersion,
+                    taskWriteResponses.withRepresentation(prefer)));
         }
         else
             return ResponseEntity.badRequest().build();
@@ -302,34 +372,82 @@ public class TaskFieldController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/commentsSchema"))),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/comments")
     public ResponseEntity<Map<String, List<CommentResponse>>> getComments(
-            @PathVariable @Parameter(description = "Task identifier.") Long taskId) {
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskService.findTaskById(taskId));
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            WebRequest request) {
+        TaskDto taskDto = taskService.findTaskById(taskId);
+        if (taskPreconditions.notModified(request, taskDto.getVersion()))
+            return null;
+        TaskResponse task = taskDtoConverter.convertDtoToResponse(taskDto);
         return ResponseEntity.ok(getResponse("comments", task.getComments()));
     }
 
+    @Operation(summary = "Getting a page of task comments.",
+            description = "Allows to get task comments page by page, oldest-first or newest-first. " +
+                    "Pass the returned next-cursor to get the following page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommentPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified, the If-None-Match ETag is current", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/comments/page")
+    public ResponseEntity<CommentPageResponse> getCommentsPage(
+            @PathVariable @Parameter(description = "Task identifier.") Long taskId,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Next-cursor returned with the previous page.") String cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Parameter(description = "Page size.\n\nMinimum value 1.\n\nMaximum value 100.") Integer size,
+            @RequestParam(name = "newest-first", defaultValue = "false")
+            @Parameter(description = "Whether to start from the newest comment.") boolean newestFirst,
+            WebRequest request) {
+        if (taskPreconditions.notModifiedById(request, taskId))
+            return null;
+        List<CommentDto> comments = taskService.findTaskCommentsPage(taskId,
+                cursor != null ? CommentCursor.decode(cursor) : null, size, newestFirst);
+        String nextCursor = comments.size() == size ?
+                CommentCursor.of(comments.get(comments.size() - 1)).encode() : null;
+        return ResponseEntity.ok(new CommentPageResponse(
+                comments.stream().map(commentDtoConverter::convertDtoToResponse).toList(), nextCursor));
+    }
+
     @Operation(summary = "Adding task comment.", description = "Allows to add task comment.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "201", description = "Created comment with the ETag of the task, when return=minimal is preferred",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommentResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @PostMapping("/comments")
-    public ResponseEntity<TaskResponse> addComment(
+    public ResponseEntity<?> addComment(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
             @RequestParam(name = "comment-text")
-            @Parameter(description = "Task comment text.") String commentText) {
+            @Parameter(description = "Task comment text.") String commentText,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
         CommentDto commentDto = commentDtoConverter.convertRequestToDto(commentText);
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.appendCommentInTask(taskId, commentDto, user));
-        return ResponseEntity.ok(task);
+        if (taskWriteResponses.resolve(prefer) == ReturnPreference.MINIMAL) {
+            CommentDto comment = taskService.createCommentInTask(taskId, commentDto, user, expectedVersion);
+            return taskWriteResponses.fragment(HttpStatus.CREATED, commentDtoConverter.convertDtoToResponse(comment),
+                    comment.getTask().getVersion());
+        }
+        return taskWriteResponses.respond(prefer, taskService.appendCommentInTask(taskId, commentDto, user, expectedVersion));
     }
 
     @Operation(summary = "Deleting task comment.", description = "Allows to delete task comment.")
@@ -337,19 +455,27 @@ public class TaskFieldController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/taskResponseSchema"))),
+            @ApiResponse(responseCode = "204", description = "No content, when return=minimal is preferred", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The If-Match ETag is not current", content = @Content),
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @DeleteMapping("/comments")
     public ResponseEntity<TaskResponse> deleteComment(
             @PathVariable @Parameter(description = "Task identifier.") Long taskId,
             @RequestParam(name = "comment-id")
-            @Parameter(description = "Task comment identifier.") Long commentId) {
-        User user = getUserOutOfContext();
-        TaskResponse task = taskDtoConverter.convertDtoToResponse(
-                taskService.removeCommentByIdInTask(taskId, commentId, user));
-        return ResponseEntity.ok(task);
+            @Parameter(description = "Task comment identifier.") Long commentId,
+            @RequestHeader(name = ReturnPreference.PREFER_HEADER, required = false)
+            @Parameter(description = PREFER_DESCRIPTION) String prefer,
+            @CurrentUser User user,
+            WebRequest request) {
+        Long expectedVersion = taskPreconditions.expectedVersion(request);
+        if (taskWriteResponses.resolve(prefer) == ReturnPreference.MINIMAL) {
+            Long version = taskService.deleteCommentInTask(taskId, commentId, user, expectedVersion);
+            return taskWriteResponses.fragment(HttpStatus.NO_CONTENT, null, version);
+        }
+        return taskWriteResponses.respond(prefer, taskService.removeCommentByIdInTask(taskId, commentId, user, expectedVersion));
     }
 
     private <T> Map<String, T> getResponse(String key, T value) {
@@ -358,8 +484,4 @@ public class TaskFieldController {
         return response;
     }
 
-    private User getUserOutOfContext() {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return userService.findByEmail(userDetails.getUsername());
-    }
 }
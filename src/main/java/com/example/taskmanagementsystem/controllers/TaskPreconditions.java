@@ -0,0 +1,67 @@
+package com.example.taskmanagementsystem.controllers;
+
+import com.example.taskmanagementsystem.services.TaskService;
+import com.example.taskmanagementsystem.services.TaskVersionMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Evaluates {@code If-None-Match} and {@code If-Match} against the task version. The reads take the version
+ * from what they loaded anyway, a projection or the task; when {@link #notModified} answers {@code true} the
+ * status 304 and the ETag are already set and the handler returns {@code null}. The writes hand the
+ * {@code If-Match} version to the {@link TaskService}, which compares it with the task it locked for the change.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class TaskPreconditions {
+
+    @Autowired
+    private TaskService taskService;
+
+    /**
+     * For the reads that loaded the task version: sets the ETag, answers 304 when the client has it.
+     */
+    public boolean notModified(WebRequest request, Long version) {
+        return request.checkNotModified(eTagOf(version));
+    }
+
+    /**
+     * For the reads that do not load the task: the version is looked up only when the client sent
+     * {@code If-None-Match}, without it the answer goes without an ETag.
+     */
+    public boolean notModifiedById(WebRequest request, Long taskId) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null)
+            return false;
+        return notModified(request, taskService.findTaskVersionById(taskId));
+    }
+
+    /**
+     * For the writes: the version named by {@code If-Match}, {@code null} without the header or for {@code *}.
+     * Only a single strong ETag of a task can match, anything else fails the precondition right away.
+     */
+    public Long expectedVersion(WebRequest request) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null || ifMatch.trim().equals("*"))
+            return null;
+        String eTag = ifMatch.trim();
+        if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            try {
+                return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // not an ETag of a task
+            }
+        }
+        throw new TaskVersionMismatchException("If-Match " + ifMatch + " does not name a task version", null);
+    }
+
+    /**
+     * A strong validator: the version changes with every change of the task, its assignees and comments.
+     */
+    public static String eTagOf(Long version) {
+        return "\"" + version + "\"";
+    }
+}
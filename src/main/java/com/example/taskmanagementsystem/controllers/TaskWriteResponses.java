@@ -0,0 +1,88 @@
+package com.example.taskmanagementsystem.controllers;
+
+import com.example.taskmanagementsystem.dto.task.TaskDto;
+import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.example.taskmanagementsystem.dto.task.TaskWriteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the responses of the task write endpoints according to the {@code Prefer} header.
+ * With {@code return=minimal} the task is answered with 204 and an ETag, so the task
+ * comments are neither loaded, sorted nor serialized, and a {@link TaskWriteResult} without
+ * the task does not even load its assignees.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class TaskWriteResponses {
+
+    @Autowired
+    private TaskDtoConverter taskDtoConverter;
+
+    private final ReturnPreference defaultPreference;
+
+    public TaskWriteResponses(@Value("${api.prefer.default-return:representation}") String defaultPreference) {
+        this.defaultPreference = ReturnPreference.fromValue(defaultPreference);
+    }
+
+    public ReturnPreference resolve(String prefer) {
+        ReturnPreference preference = ReturnPreference.fromHeader(prefer);
+        return preference != null ? preference : defaultPreference;
+    }
+
+    /**
+     * Whether the write has to build the task for the response; a minimal one only needs its new version.
+     */
+    public boolean withRepresentation(String prefer) {
+        return resolve(prefer) == ReturnPreference.REPRESENTATION;
+    }
+
+    public ResponseEntity<TaskResponse> respond(String prefer, TaskWriteResult result) {
+        return respond(prefer, result, true);
+    }
+
+    public ResponseEntity<TaskResponse> respond(String prefer, TaskWriteResult result, boolean withComments) {
+        if (result.getTask() != null)
+            return respond(prefer, result.getTask(), withComments);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                .eTag(TaskPreconditions.eTagOf(result.getVersion()))
+                .header(ReturnPreference.PREFERENCE_APPLIED_HEADER, ReturnPreference.MINIMAL.getHeaderValue())
+                .build();
+    }
+
+    public ResponseEntity<TaskResponse> respond(String prefer, TaskDto task) {
+        return respond(prefer, task, true);
+    }
+
+    public ResponseEntity<TaskResponse> respond(String prefer, TaskDto task, boolean withComments) {
+        ReturnPreference preference = resolve(prefer);
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(preference == ReturnPreference.MINIMAL ? HttpStatus.NO_CONTENT : HttpStatus.OK)
+                .eTag(eTagOf(task))
+                .header(ReturnPreference.PREFERENCE_APPLIED_HEADER, preference.getHeaderValue());
+        if (preference == ReturnPreference.MINIMAL)
+            return response.build();
+        return response.body(taskDtoConverter.convertDtoToResponse(task, withComments));
+    }
+
+    /**
+     * Answers a minimal request with only the changed fragment of the task, e.g. the created comment,
+     * and the ETag of the task version after the change.
+     */
+    public <T> ResponseEntity<T> fragment(HttpStatus status, T fragment, Long version) {
+        return ResponseEntity.status(status)
+                .eTag(TaskPreconditions.eTagOf(version))
+                .header(ReturnPreference.PREFERENCE_APPLIED_HEADER, ReturnPreference.MINIMAL.getHeaderValue())
+                .body(fragment);
+    }
+
+    public String eTagOf(TaskDto task) {
+        return TaskPreconditions.eTagOf(task.getVersion());
+    }
+}
@@ -2,10 +2,16 @@ package com.example.taskmanagementsystem.controllers;
 
 import com.example.taskmanagementsystem.dto.user.UserResponse;
 import com.example.taskmanagementsystem.dto.user.UserResponseConverter;
+import com.example.taskmanagementsystem.dto.task.TaskChangeEvent;
+import com.example.taskmanagementsystem.dto.task.TaskChangeType;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
 import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.example.taskmanagementsystem.dto.task.TaskStatistics;
+import com.example.taskmanagementsystem.events.TaskChangeStream;
 import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.security.CurrentUser;
 import com.example.taskmanagementsystem.services.TaskService;
+import com.example.taskmanagementsystem.services.TaskStatisticsService;
 import com.example.taskmanagementsystem.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,14 +23,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Yina-ship-it
@@ -43,12 +50,18 @@ public class UserController {
     @Autowired
     TaskService taskService;
 
+    @Autowired
+    TaskStatisticsService taskStatisticsService;
+
     @Autowired
     TaskDtoConverter taskDtoConverter;
 
     @Autowired
     UserResponseConverter userResponseConverter;
 
+    @Autowired
+    TaskChangeStream taskChangeStream;
+
     @Operation(summary = "Getting all users.", description = "Allows to get all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
@@ -88,8 +101,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getMe(){
-        User user = getUserOutOfContext();
+    public ResponseEntity<UserResponse> getMe(@CurrentUser User user){
         UserResponse userResponse = userResponseConverter.convertUserToResponse(user);
         return ResponseEntity.ok(userResponse);
     }
@@ -119,8 +131,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me/name")
-    public ResponseEntity<Map<String, String>> getMeName(){
-        User user = getUserOutOfContext();
+    public ResponseEntity<Map<String, String>> getMeName(@CurrentUser User user){
         UserResponse response = userResponseConverter.convertUserToResponse(user);
         return ResponseEntity.ok(getResponse("name", response.getName()));
     }
@@ -150,8 +161,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me/email")
-    public ResponseEntity<Map<String, String>> getMeEmail(){
-        User user = getUserOutOfContext();
+    public ResponseEntity<Map<String, String>> getMeEmail(@CurrentUser User user){
         UserResponse response = userResponseConverter.convertUserToResponse(user);
         return ResponseEntity.ok(getResponse("email", response.getEmail()));
     }
@@ -181,8 +191,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me/id")
-    public ResponseEntity<Map<String, Long>> getMeId(){
-        User user = getUserOutOfContext();
+    public ResponseEntity<Map<String, Long>> getMeId(@CurrentUser User user){
         UserResponse response = userResponseConverter.convertUserToResponse(user);
         return ResponseEntity.ok(getResponse("id", response.getId()));
     }
@@ -235,9 +244,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me/created-tasks")
-    public ResponseEntity<List<TaskResponse>> getTasksCreatedByMe(){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.findByEmail(userDetails.getUsername());
+    public ResponseEntity<List<TaskResponse>> getTasksCreatedByMe(@CurrentUser User user){
         List<TaskResponse> tasks = taskService.findAllTasksByAuthor(user).stream()
                 .map(taskDtoConverter::convertDtoToResponse)
                 .toList();
@@ -254,15 +261,93 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
     })
     @GetMapping("/me/assigned-tasks")
-    public ResponseEntity<List<TaskResponse>> getTasksAssignedToMe(){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.findByEmail(userDetails.getUsername());
+    public ResponseEntity<List<TaskResponse>> getTasksAssignedToMe(@CurrentUser User user){
         List<TaskResponse> tasks = taskService.findAllTasksByAssignee(user).stream()
                 .map(taskDtoConverter::convertDtoToResponse)
                 .toList();
         return ResponseEntity.ok(tasks);
     }
 
+    @Operation(summary = "Getting statistics of the tasks created by the user.",
+            description = "Allows to get the number of tasks created by the user per status and priority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/{id}/created-tasks/statistics")
+    public ResponseEntity<TaskStatistics> getStatisticsOfTasksCreatedByUser(
+            @PathVariable @Parameter(description = "User identifier.") Long id){
+        User user = userService.findById(id);
+        return ResponseEntity.ok(taskStatisticsService.findTaskStatisticsByAuthor(user));
+    }
+
+    @Operation(summary = "Getting statistics of the tasks assigned to the user.",
+            description = "Allows to get the number of tasks assigned to the user per status and priority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Not found", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/{id}/assigned-tasks/statistics")
+    public ResponseEntity<TaskStatistics> getStatisticsOfTasksAssignedToUser(
+            @PathVariable @Parameter(description = "User identifier.") Long id){
+        User user = userService.findById(id);
+        return ResponseEntity.ok(taskStatisticsService.findTaskStatisticsByAssignee(user));
+    }
+
+    @Operation(summary = "Getting statistics of the tasks created by the current user.",
+            description = "Allows to get the number of tasks created by the current user per status and priority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/me/created-tasks/statistics")
+    public ResponseEntity<TaskStatistics> getStatisticsOfTasksCreatedByMe(@CurrentUser User user){
+        return ResponseEntity.ok(taskStatisticsService.findTaskStatisticsByAuthor(user));
+    }
+
+    @Operation(summary = "Getting statistics of the tasks assigned to the current user.",
+            description = "Allows to get the number of tasks assigned to the current user per status and priority.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping("/me/assigned-tasks/statistics")
+    public ResponseEntity<TaskStatistics> getStatisticsOfTasksAssignedToMe(@CurrentUser User user){
+        return ResponseEntity.ok(taskStatisticsService.findTaskStatisticsByAssignee(user));
+    }
+
+    @Operation(summary = "Streaming changes of the tasks of the current user.",
+            description = "Server-sent events \"task-change\" with the status, priority, assignee and comment changes "
+                    + "of the tasks the current user authors or is assigned to, instead of polling the task lists. "
+                    + "A client reconnecting with Last-Event-ID receives the events it missed; "
+                    + "a \"reset\" event means they are no longer kept and the tasks have to be reloaded.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = TaskChangeEvent.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Unauthorized / Invalid Token", content = @Content)
+    })
+    @GetMapping(value = "/me/task-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEventsOfMe(
+            @RequestParam(name = "types", required = false, defaultValue = "")
+            @Parameter(description = "Kinds of changes to receive, all of them by default.") Set<TaskChangeType> types,
+            @RequestHeader(name = "Last-Event-ID", required = false)
+            @Parameter(description = "Id of the last event received before reconnecting.") String lastEventId,
+            @CurrentUser User user){
+        return taskChangeStream.subscribe(user.getId(), types, lastEventId);
+    }
+
     @Operation(summary = "Updating current user name.", description = "Allows to update current user name.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
@@ -275,9 +360,9 @@ public class UserController {
     @PutMapping("/me/name")
     public ResponseEntity<UserResponse> updateName(
             @RequestParam(name = "name")
-            @Parameter(description = "New name of the current user.\n\nMaximum length 255.") String name){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.updateUserNameByEmail(userDetails.getUsername(), name);
+            @Parameter(description = "New name of the current user.\n\nMaximum length 255.") String name,
+            @CurrentUser User currentUser){
+        User user = userService.updateUserNameByEmail(currentUser.getEmail(), name);
         return ResponseEntity.ok(userResponseConverter.convertUserToResponse(user));
     }
 
@@ -293,9 +378,9 @@ public class UserController {
     @PutMapping("/me/email")
     public ResponseEntity<UserResponse> updateEmail(
             @RequestParam(name = "email")
-            @Parameter(description = "New email of the current user.\n\nMaximum length 255.") String email){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.updateUserEmailByEmail(userDetails.getUsername(), email);
+            @Parameter(description = "New email of the current user.\n\nMaximum length 255.") String email,
+            @CurrentUser User currentUser){
+        User user = userService.updateUserEmailByEmail(currentUser.getEmail(), email);
         return ResponseEntity.ok(userResponseConverter.convertUserToResponse(user));
     }
 
@@ -311,9 +396,9 @@ public class UserController {
     @PutMapping("/me/password")
     public ResponseEntity<?> updatePassword(
             @RequestParam(name = "password")
-            @Parameter(description = "New password of the current user.\n\nMaximum length 255.") String password){
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.updateUserPasswordByEmail(userDetails.getUsername(), password);
+            @Parameter(description = "New password of the current user.\n\nMaximum length 255.") String password,
+            @CurrentUser User currentUser){
+        User user = userService.updateUserPasswordByEmail(currentUser.getEmail(), password);
         return ResponseEntity.ok(userResponseConverter.convertUserToResponse(user));
     }
 
@@ -323,8 +408,4 @@ public class UserController {
         return response;
     }
 
-    private User getUserOutOfContext() {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return userService.findByEmail(userDetails.getUsername());
-    }
 }
@@ -0,0 +1,45 @@
+package com.example.taskmanagementsystem.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Keyset position of a comment in the {@code (dateTime, id)} order of its task.
+ * It is passed to the clients as an opaque string.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+public class CommentCursor {
+
+    private LocalDateTime dateTime;
+
+    private Long id;
+
+    public static CommentCursor of(CommentDto comment) {
+        // the database rounds to microseconds, a finer cursor would never equal the stored value
+        return new CommentCursor(comment.getDateTime().plusNanos(500).truncatedTo(ChronoUnit.MICROS), comment.getId());
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_", 2);
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid comment cursor=" + cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((dateTime + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
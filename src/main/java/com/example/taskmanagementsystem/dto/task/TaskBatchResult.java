@@ -0,0 +1,43 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch task creation: the id of the created task or the reason it was rejected.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "Task Batch Result")
+public class TaskBatchResult {
+
+    @Schema(description = "Position of the task request in the batch.", example = "0")
+    private int index;
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "Invalid title=null")
+    private String error;
+
+    public static TaskBatchResult created(int index, Long id) {
+        return TaskBatchResult.builder().index(index).id(id).build();
+    }
+
+    public static TaskBatchResult failed(int index, String error) {
+        return TaskBatchResult.builder().index(index).error(error).build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A committed change of a task, published by the task service and pushed to the subscribers it concerns.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@Schema(name = "Task Change Event")
+public class TaskChangeEvent {
+
+    @Schema(example = "1")
+    private Long taskId;
+
+    @Schema(example = "STATUS")
+    private TaskChangeType type;
+
+    @Schema(description = "Version of the task after the change, the value of its ETag.", example = "3")
+    private Long version;
+
+    @Schema(description = "Identifier of the user who made the change.", example = "1")
+    private Long changedBy;
+
+    private LocalDateTime dateTime;
+
+    /**
+     * The author and the assignees of the task, including an assignee the change removed.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Set<Long> userIds;
+}
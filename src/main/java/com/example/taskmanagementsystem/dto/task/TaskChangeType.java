@@ -0,0 +1,18 @@
+package com.example.taskmanagementsystem.dto.task;
+
+/**
+ * The kinds of task changes, recorded in the task outbox and pushed to the task event stream.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public enum TaskChangeType {
+    CREATED,
+    TITLE,
+    DESCRIPTION,
+    STATUS,
+    PRIORITY,
+    ASSIGNEES,
+    COMMENTS,
+    DELETED
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of tasks with a status, a priority, or both.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "Task Count")
+public class TaskCount {
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    @Schema(example = "3")
+    private long count;
+}
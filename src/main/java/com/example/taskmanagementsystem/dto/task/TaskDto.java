@@ -20,6 +20,7 @@ import java.util.List;
 @Builder
 public class TaskDto {
     private Long id;
+    private Long version;
     private String title;
     private String description;
     private TaskStatus status;
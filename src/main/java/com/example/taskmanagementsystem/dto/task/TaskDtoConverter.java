@@ -8,6 +8,7 @@ import com.example.taskmanagementsystem.models.Task;
 import com.example.taskmanagementsystem.models.TaskPriority;
 import com.example.taskmanagementsystem.models.TaskStatus;
 import com.example.taskmanagementsystem.models.User;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -33,6 +34,7 @@ public class TaskDtoConverter implements DtoConverter<Task, TaskDto, TaskRequest
     public TaskDto convertEntityToDto(Task task) {
         return TaskDto.builder()
                 .id(task.getId())
+                .version(task.getVersion())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .priority(task.getPriority())
@@ -47,6 +49,7 @@ public class TaskDtoConverter implements DtoConverter<Task, TaskDto, TaskRequest
     public Task convertDtoToEntity(TaskDto taskDto) {
         return Task.builder()
                 .id(taskDto.getId())
+                .version(taskDto.getVersion())
                 .title(taskDto.getTitle())
                 .description(taskDto.getDescription())
                 .priority(taskDto.getPriority())
@@ -86,15 +89,27 @@ public class TaskDtoConverter implements DtoConverter<Task, TaskDto, TaskRequest
     }
 
     @Override
+    @Observed(name = "dto.conversion", contextualName = "task response conversion")
     public TaskResponse convertDtoToResponse(TaskDto taskDto) {
-        List<CommentResponse> comments = taskDto.getComments()
-                .stream()
-                .map(commentDtoConverter::convertEntityToDto)
-                .map(commentDtoConverter::convertDtoToResponse)
-                .collect(Collectors.toList());
+        return convertDtoToResponse(taskDto, true);
+    }
 
-        if(comments.size() > 1)
-            comments.sort(Comparator.comparing(CommentResponse::getDateTime));
+    /**
+     * @param withComments {@code false} leaves the comments out of the response without loading them
+     */
+    @Observed(name = "dto.conversion", contextualName = "task response conversion")
+    public TaskResponse convertDtoToResponse(TaskDto taskDto, boolean withComments) {
+        List<CommentResponse> comments = null;
+        if (withComments) {
+            comments = taskDto.getComments()
+                    .stream()
+                    .map(commentDtoConverter::convertEntityToDto)
+                    .map(commentDtoConverter::convertDtoToResponse)
+                    .collect(Collectors.toList());
+
+            if(comments.size() > 1)
+                comments.sort(Comparator.comparing(CommentResponse::getDateTime));
+        }
 
 
         return TaskResponse.builder()
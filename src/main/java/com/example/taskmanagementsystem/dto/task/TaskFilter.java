@@ -0,0 +1,25 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional server-side filters of the task listing. A {@code null} field means "any".
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskFilter {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long authorId;
+    private Long assigneeId;
+}
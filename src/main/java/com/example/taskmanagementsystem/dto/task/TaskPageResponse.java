@@ -0,0 +1,31 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@Schema(name = "Task Page Response")
+public class TaskPageResponse {
+
+    @Builder.Default
+    private List<TaskResponse> tasks = new ArrayList<>();
+
+    @Schema(description = "Cursor of the next page, absent on the last page.", example = "20")
+    private Long nextCursor;
+}
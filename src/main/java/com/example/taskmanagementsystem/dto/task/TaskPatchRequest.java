@@ -0,0 +1,38 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * JSON Merge Patch (RFC 7396) of a task. A {@code null} field was absent from the patch and stays unchanged,
+ * an empty {@link Optional} was explicitly set to {@code null}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@Schema(name = "Task Patch Request")
+public class TaskPatchRequest {
+    @Schema(type = "string", example = "Example task title", description = "Maximum length 255.")
+    private Optional<String> title;
+
+    @Schema(type = "string", example = "Example task description")
+    private Optional<String> description;
+
+    @Schema(type = "integer", example = "2", description = "Minimum value 1.\n\nMaximum value 3.")
+    private Optional<Integer> statusValue;
+
+    @Schema(type = "integer", example = "3", description = "Minimum value 1.\n\nMaximum value 3.")
+    private Optional<Integer> priorityValue;
+}
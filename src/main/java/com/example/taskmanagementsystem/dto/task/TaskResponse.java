@@ -4,6 +4,7 @@ import com.example.taskmanagementsystem.dto.comment.CommentResponse;
 import com.example.taskmanagementsystem.dto.user.UserResponse;
 import com.example.taskmanagementsystem.models.TaskPriority;
 import com.example.taskmanagementsystem.models.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -47,6 +48,7 @@ public class TaskResponse {
 
     private List<UserResponse> assignees = new ArrayList<>();
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<CommentResponse> comments = new ArrayList<>();
 
 }
@@ -0,0 +1,41 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task found by the full-text search, with its matched words wrapped in {@code <mark>} tags.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@Schema(name = "Task Search Hit")
+public class TaskSearchHit {
+
+    @Schema(description = "Task identifier.", example = "42")
+    private Long id;
+
+    @Schema(description = "Relevance of the task, the hits are ordered by it.", example = "0.6079271")
+    private Double rank;
+
+    @Schema(description = "Task title.", example = "Fix the <mark>login</mark> page")
+    private String title;
+
+    @Schema(description = "Fragment of the description around the matched words, absent when it does not match.",
+            example = "users cannot <mark>login</mark> after the password reset")
+    private String description;
+
+    @Schema(description = "Fragment of the best matching comment, absent when no comment matches.",
+            example = "the <mark>login</mark> form loses the email")
+    private String comment;
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histograms of tasks over their statuses and priorities. Every status and priority is listed,
+ * the ones without tasks with a zero count.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+@Schema(name = "Task Statistics")
+public class TaskStatistics {
+
+    @Schema(example = "12")
+    private long total;
+
+    @Schema(description = "Counts per status and priority, by status then by priority.")
+    @Builder.Default
+    private List<TaskCount> byStatusAndPriority = new ArrayList<>();
+
+    @Builder.Default
+    private List<TaskCount> byStatus = new ArrayList<>();
+
+    @Builder.Default
+    private List<TaskCount> byPriority = new ArrayList<>();
+
+    @Schema(description = "When the counts were computed, they may be cached for a few seconds.")
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagementsystem.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a task write: the version of the task after the change and, only when the client asked
+ * for the representation, the task itself. Without it the assignees and comments are not loaded.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskWriteResult {
+    private Long version;
+    private TaskDto task;
+
+    public static TaskWriteResult minimal(Long version) {
+        return TaskWriteResult.builder().version(version).build();
+    }
+
+    public static TaskWriteResult representation(TaskDto task) {
+        return TaskWriteResult.builder().version(task.getVersion()).task(task).build();
+    }
+}
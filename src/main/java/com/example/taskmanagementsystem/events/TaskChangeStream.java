@@ -0,0 +1,260 @@
+package com.example.taskmanagementsystem.events;
+
+import com.example.taskmanagementsystem.dto.task.TaskChangeEvent;
+import com.example.taskmanagementsystem.dto.task.TaskChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task changes as server-sent events to the subscribed users they concern.
+ * <p>
+ * Every connection has a bounded buffer and is written by a small pool of sender threads, so a
+ * slow client never holds up the task service: a client whose buffer overflows is disconnected
+ * and resumes with {@code Last-Event-ID} from the last events kept for replay. A client that
+ * cannot be resumed, because its id is unknown or too old, gets a {@value #RESET_EVENT} event
+ * and has to reload its tasks.
+ * <p>
+ * The events live in the memory of this instance only, the subscribers of another instance do not see them.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Log
+@Component
+public class TaskChangeStream {
+
+    static final String CHANGE_EVENT = "task-change";
+    static final String RESET_EVENT = "reset";
+    static final String SUBSCRIBERS_GAUGE = "task.events.subscribers";
+    static final String OVERFLOW_COUNTER = "task.events.overflows";
+
+    /**
+     * Prefix of the event ids, an id of an earlier run of the application cannot be resumed.
+     */
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final Deque<Entry> replay = new ArrayDeque<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter overflows;
+    private long sequence;
+
+    public TaskChangeStream(@Value("${task-events.buffer-size:256}") int bufferSize,
+                            @Value("${task-events.replay-size:1024}") int replaySize,
+                            @Value("${task-events.sender-threads:4}") int senderThreads,
+                            @Value("${task-events.heartbeat-seconds:15}") long heartbeatSeconds,
+                            @Value("${task-events.timeout-minutes:30}") long timeoutMinutes,
+                            MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        this.overflows = Counter.builder(OVERFLOW_COUNTER)
+                .description("Task event subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        Gauge.builder(SUBSCRIBERS_GAUGE, subscriptions, Set::size)
+                .description("Connected task event subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param userId the subscriber, who gets the changes of the tasks they author or are assigned to
+     * @param types the kinds of changes wanted, all of them when empty
+     * @param lastEventId the id of the last event received before reconnecting, or {@code null}
+     */
+    public SseEmitter subscribe(Long userId, Set<TaskChangeType> types, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(userId, types.isEmpty() ? EnumSet.allOf(TaskChangeType.class) : types, emitter);
+        emitter.onCompletion(subscription::remove);
+        emitter.onTimeout(subscription::remove);
+        emitter.onError(e -> subscription.remove());
+
+        synchronized (replay) {
+            if (lastEventId != null) {
+                List<Entry> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() > bufferSize)
+                    subscription.offer(SseEmitter.event().name(RESET_EVENT).data(""));
+                else
+                    missed.stream().filter(subscription::wants).forEach(entry -> subscription.offer(entry.toSse()));
+            }
+            subscriptions.add(subscription);
+        }
+        return emitter;
+    }
+
+    /**
+     * Runs once the change is committed, a rolled back change is never pushed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskChangeEvent change) {
+        synchronized (replay) {
+            long next = ++sequence;
+            Entry entry = new Entry(instance + "-" + next, next, change);
+            replay.addLast(entry);
+            if (replay.size() > replaySize)
+                replay.removeFirst();
+            for (Subscription subscription : subscriptions)
+                if (subscription.wants(entry))
+                    subscription.offer(entry.toSse());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscriptions.forEach(Subscription::close);
+        senders.shutdown();
+    }
+
+    /**
+     * The events after the given id, or {@code null} when some of them are no longer kept.
+     */
+    private List<Entry> missedSince(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(instance))
+            return null;
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldestKept = replay.isEmpty() ? sequence + 1 : replay.getFirst().sequence;
+        if (last > sequence || last < oldestKept - 1)
+            return null;
+        return replay.stream().filter(entry -> entry.sequence > last).toList();
+    }
+
+    private void heartbeat() {
+        for (Subscription subscription : subscriptions)
+            subscription.offer(SseEmitter.event().comment("heartbeat"));
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final long sequence;
+        private final TaskChangeEvent change;
+
+        private Entry(String id, long sequence, TaskChangeEvent change) {
+            this.id = id;
+            this.sequence = sequence;
+            this.change = change;
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(CHANGE_EVENT).data(change, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscription {
+        private final Long userId;
+        private final Set<TaskChangeType> types;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean completed;
+
+        private Subscription(Long userId, Set<TaskChangeType> types, SseEmitter emitter) {
+            this.userId = userId;
+            this.types = types;
+            this.emitter = emitter;
+        }
+
+        private boolean wants(Entry entry) {
+            return types.contains(entry.change.getType()) && entry.change.getUserIds().contains(userId);
+        }
+
+        /**
+         * Never blocks: the event is only buffered, a sender thread writes it.
+         */
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed)
+                return;
+            if (!buffer.offer(event)) {
+                overflows.increment();
+                log.warning("task event buffer of user id=" + userId + " is full, disconnecting the subscriber");
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * The emitter is completed by a sender thread, it may be in the middle of a blocked write.
+         */
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            scheduleDrain();
+        }
+
+        /**
+         * The emitter is already completed: timed out, failed or closed.
+         */
+        private void remove() {
+            completed = true;
+            closed = true;
+            subscriptions.remove(this);
+        }
+
+        private void scheduleDrain() {
+            if (!completed && draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = buffer.poll()) != null)
+                    emitter.send(event);
+                if (closed) {
+                    buffer.clear();
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                // the client is gone, the container completes the emitter
+                remove();
+            } finally {
+                draining.set(false);
+            }
+            // buffered or closed after the last check but before the flag was cleared
+            if (closed || !buffer.isEmpty())
+                scheduleDrain();
+        }
+    }
+}
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,15 +22,31 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(name = Task.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("assignees")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 public class Task {
+    public static final String DETAILS_GRAPH = "Task.details";
+    public static final String CACHE_REGION = "tasks";
+    public static final String ASSIGNEES_CACHE_REGION = "tasks.assignees";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Incremented on every change of the task, its assignees or its comments.
+     */
+    @Version
+    private Long version;
+
     @Column
     private String title;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String description;
 
     @Enumerated(EnumType.STRING)
@@ -43,6 +62,8 @@ public class Task {
     private User author;
 
     @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.ASSIGNEES_CACHE_REGION)
     @JoinTable(
             name = "task_assignees",
             joinColumns = @JoinColumn(name = "task_id"),
@@ -50,5 +71,6 @@ public class Task {
     private List<User> assignees = new ArrayList<>();
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Comment> comments = new ArrayList<>();
 }
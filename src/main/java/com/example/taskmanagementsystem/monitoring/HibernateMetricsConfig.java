@@ -0,0 +1,26 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the Hibernate statistics, among them the hits, misses and puts of every
+ * second-level cache region ({@code hibernate.second.level.cache.*}) and of the natural-id
+ * cache ({@code hibernate.cache.natural.id.*}). Needs {@code hibernate.generate_statistics}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty());
+    }
+}
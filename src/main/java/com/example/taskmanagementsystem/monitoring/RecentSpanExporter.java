@@ -0,0 +1,73 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the latest finished spans in memory, the oldest dropped past {@code tracing.recent-spans.max-size},
+ * so the traces can be looked at on {@code /actuator/traces} without a collector. Spring Boot hands it
+ * the spans through the batch span processor, together with any other {@link SpanExporter} bean.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class RecentSpanExporter implements SpanExporter {
+
+    private final int maxSize;
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+
+    public RecentSpanExporter(@Value("${tracing.recent-spans.max-size:10000}") int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("tracing.recent-spans.max-size must be positive");
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> finishedSpans) {
+        for (SpanData span : finishedSpans) {
+            if (spans.size() == maxSize)
+                spans.removeFirst();
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @return the kept spans, oldest finished first
+     */
+    public synchronized List<SpanData> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * @return the kept spans of the trace, oldest finished first, empty if none is kept
+     */
+    public synchronized List<SpanData> getSpans(String traceId) {
+        List<SpanData> trace = new ArrayList<>();
+        for (SpanData span : spans)
+            if (span.getTraceId().equals(traceId))
+                trace.add(span);
+        return trace;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+}
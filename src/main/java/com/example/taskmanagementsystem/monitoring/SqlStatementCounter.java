@@ -0,0 +1,42 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts the JDBC statements Hibernate prepares on the current thread while a count is started, a JDBC batch
+ * being one statement. Registered for every session with {@code hibernate.session.events.auto}.
+ * <p>
+ * SQL sent around Hibernate, through a {@code JdbcTemplate}, is not counted.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class SqlStatementCounter extends BaseSessionEventListener {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on the current thread from zero.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return the statements prepared since {@link #start()}, {@code 0} if no count was started
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        int[] count = COUNT.get();
+        if (count != null)
+            count[0]++;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the SQL statements of every request ({@code http.server.requests.sql.statements}), tagged like
+ * {@code http.server.requests} with the method and the URI pattern. Runs before the security filters,
+ * so the loading of the authenticated user is counted as well.
+ * <p>
+ * A request over the statement budget of its endpoint is logged and counted
+ * ({@code http.server.requests.sql.statements.over.budget}), which is how an N+1 regression shows up.
+ * The budgets are entries like {@code GET /api/tasks/{id}=6} in {@code monitoring.sql-statements.budgets},
+ * the other endpoints get {@code monitoring.sql-statements.default-budget}, {@code 0} for none.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Log
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    /**
+     * The request attribute holding the statement count once the request is handled.
+     */
+    public static final String STATEMENTS_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".statements";
+    static final String STATEMENTS_SUMMARY = "http.server.requests.sql.statements";
+    static final String OVER_BUDGET_COUNTER = "http.server.requests.sql.statements.over.budget";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry,
+                                     @Value("${monitoring.sql-statements.default-budget:0}") int defaultBudget,
+                                     @Value("${monitoring.sql-statements.budgets:}") List<String> budgets) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.budgets = parseBudgets(budgets);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.stop();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                    .description("SQL statements Hibernate prepared for a request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            checkBudget(request.getMethod(), uri, statements);
+        }
+    }
+
+    private void checkBudget(String method, String uri, int statements) {
+        int budget = budgets.getOrDefault(method + " " + uri, defaultBudget);
+        if (budget <= 0 || statements <= budget)
+            return;
+        log.warning(method + " " + uri + " took " + statements + " SQL statements, over its budget of " + budget);
+        Counter.builder(OVER_BUDGET_COUNTER)
+                .description("Requests that took more SQL statements than the budget of their endpoint")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Map<String, Integer> parseBudgets(List<String> entries) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank())
+                continue;
+            int separator = entry.lastIndexOf('=');
+            String endpoint = separator > 0 ? entry.substring(0, separator).trim().replaceAll("\\s+", " ") : "";
+            if (endpoint.indexOf(' ') < 0)
+                throw new IllegalArgumentException("Invalid SQL statement budget \"" + entry
+                        + "\", expected \"<method> <uri pattern>=<statements>\"");
+            try {
+                budgets.put(endpoint, Integer.parseInt(entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid SQL statement budget \"" + entry
+                        + "\", expected \"<method> <uri pattern>=<statements>\"");
+            }
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The traces kept by {@link RecentSpanExporter}: {@code GET /actuator/traces} lists them, the latest first,
+ * {@code GET /actuator/traces/{traceId}} gives the spans of one in the order they started.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    @Autowired
+    private RecentSpanExporter recentSpanExporter;
+
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        Map<String, List<SpanData>> traces = new LinkedHashMap<>();
+        for (SpanData span : recentSpanExporter.getSpans())
+            traces.computeIfAbsent(span.getTraceId(), traceId -> new ArrayList<>()).add(span);
+
+        List<TraceSummary> summaries = new ArrayList<>(traces.size());
+        for (List<SpanData> spans : traces.values()) {
+            SpanData root = spans.stream().min(Comparator.comparingLong(SpanData::getStartEpochNanos)).orElseThrow();
+            long end = spans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElseThrow();
+            summaries.add(new TraceSummary(root.getTraceId(), root.getName(), toInstant(root.getStartEpochNanos()),
+                    toMillis(end - root.getStartEpochNanos()), spans.size(),
+                    spans.stream().anyMatch(span -> span.getStatus().getStatusCode() == StatusCode.ERROR)));
+        }
+        Collections.reverse(summaries);
+        return summaries;
+    }
+
+    /**
+     * @return {@code null}, answered with 404, if no span of the trace is kept
+     */
+    @ReadOperation
+    public List<SpanSummary> trace(@Selector String traceId) {
+        List<SpanData> spans = recentSpanExporter.getSpans(traceId);
+        if (spans.isEmpty())
+            return null;
+        return spans.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(TracesEndpoint::toSummary)
+                .toList();
+    }
+
+    private static SpanSummary toSummary(SpanData span) {
+        Map<String, String> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return new SpanSummary(span.getSpanId(),
+                SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null,
+                span.getName(), span.getKind().name(), toInstant(span.getStartEpochNanos()),
+                toMillis(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode() == StatusCode.ERROR, attributes);
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public record TraceSummary(String traceId, String name, Instant start, double durationMs, int spans,
+                               boolean error) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public record SpanSummary(String spanId, String parentSpanId, String name, String kind, Instant start,
+                              double durationMs, boolean error, Map<String, String> attributes) {
+    }
+}
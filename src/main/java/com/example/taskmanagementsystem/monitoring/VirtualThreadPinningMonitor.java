@@ -0,0 +1,89 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} events while requests run on virtual threads.
+ * A virtual thread that blocks inside a {@code synchronized} block (older JDBC drivers and pools do)
+ * keeps its carrier thread, so a few of them can stall every request. Each pinning longer than
+ * the threshold is logged with its stack and counted per frame that held the carrier.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Log
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_COUNTER = "jvm.threads.virtual.pinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${monitoring.virtual-threads.pinning-threshold-ms:20}") long thresholdMillis,
+            MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        Counter.builder(PINNED_COUNTER)
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .tag("frame", pinningFrame(frames))
+                .register(meterRegistry)
+                .increment();
+        log.warning("Virtual thread pinned for " + event.getDuration().toMillis() + " ms\n\tat "
+                + frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat ")));
+    }
+
+    /**
+     * The first frame outside the JDK: the driver, pool or application method that blocked.
+     */
+    private static String pinningFrame(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagementsystem.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Appends the messages to a file as JSON lines, forced to disk before the batch counts as published.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class FileTaskOutboxPublisher implements TaskOutboxPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileTaskOutboxPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<TaskOutboxMessage> messages) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (TaskOutboxMessage message : messages)
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null)
+            Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(false);
+        }
+    }
+}
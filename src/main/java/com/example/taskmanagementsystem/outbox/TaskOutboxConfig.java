@@ -0,0 +1,24 @@
+package com.example.taskmanagementsystem.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Configuration
+public class TaskOutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TaskOutboxPublisher.class)
+    public TaskOutboxPublisher fileTaskOutboxPublisher(@Value("${outbox.publisher.file}") Path file,
+                                                       ObjectMapper objectMapper) {
+        return new FileTaskOutboxPublisher(file, objectMapper);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.taskmanagementsystem.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the {@code task_outbox} table: one committed change of a task or its comments.
+ * The id grows with every change, consumers can use it to drop a message delivered twice.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+public class TaskOutboxMessage {
+    private Long id;
+    private Long taskId;
+    private String type;
+
+    /**
+     * The {@link com.example.taskmanagementsystem.dto.task.TaskChangeEvent} as JSON.
+     */
+    @JsonRawValue
+    private String payload;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagementsystem.outbox;
+
+import java.util.List;
+
+/**
+ * Hands the outbox messages over to whatever consumes them: a broker, a file, a test.
+ * Declaring a bean of this type replaces the default {@link FileTaskOutboxPublisher}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskOutboxPublisher {
+
+    /**
+     * Publishes the messages in the given order, which is the order of the changes of every task.
+     * Returning means all of them are published; on an exception none of them counts as published
+     * and the whole batch is offered again, so a message may be delivered more than once.
+     */
+    void publish(List<TaskOutboxMessage> messages) throws Exception;
+}
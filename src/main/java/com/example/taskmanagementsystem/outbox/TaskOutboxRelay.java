@@ -0,0 +1,187 @@
+package com.example.taskmanagementsystem.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@code task_outbox} rows in batches and deletes them once published.
+ * <p>
+ * A batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so the relays of several application
+ * instances share the outbox without waiting for each other. The changes of one task stay in order:
+ * a relay publishes a change of a task only if every older pending change of that task is in its
+ * own batch, the rest waits for the relay holding the older ones.
+ * <p>
+ * Plain JDBC in transactions of its own, the relay does not touch the persistence context or its statistics.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Log
+@Component
+public class TaskOutboxRelay {
+
+    static final String PUBLISHED_COUNTER = "outbox.relay.published";
+    static final String FAILURES_COUNTER = "outbox.relay.failures";
+    static final String LAG_TIMER = "outbox.relay.lag";
+
+    private static final String CLAIM = """
+            select id, task_id, type, payload, created_at from task_outbox
+            order by id
+            fetch first :limit rows only
+            for update skip locked""";
+    private static final String PENDING_OF_TASKS =
+            "select task_id, id from task_outbox where task_id in (:taskIds) and id <= :maxId order by id";
+    private static final String DELETE = "delete from task_outbox where id in (:ids)";
+
+    private static final RowMapper<TaskOutboxMessage> MESSAGE = (row, rowNumber) -> TaskOutboxMessage.builder()
+            .id(row.getLong("id"))
+            .taskId(row.getLong("task_id"))
+            .type(row.getString("type"))
+            .payload(row.getString("payload"))
+            .createdAt(row.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskOutboxPublisher publisher;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+
+    public TaskOutboxRelay(DataSource dataSource,
+                           TaskOutboxPublisher publisher,
+                           @Value("${outbox.relay.batch-size:100}") int batchSize,
+                           @Value("${outbox.relay.interval-ms:500}") long intervalMillis,
+                           @Value("${outbox.relay.enabled:true}") boolean enabled,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.published = Counter.builder(PUBLISHED_COUNTER)
+                .description("Task changes published from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder(FAILURES_COUNTER)
+                .description("Outbox batches the publisher failed, offered again later")
+                .register(meterRegistry);
+        this.lag = Timer.builder(LAG_TIMER)
+                .description("Time from a task change to its publication")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled)
+            scheduler.scheduleWithFixedDelay(this::relayScheduled, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes batches until the outbox holds nothing this relay may publish.
+     *
+     * @return the number of published changes
+     */
+    public int relayPending() {
+        int total = 0;
+        while (true) {
+            Batch batch = transactionTemplate.execute(status -> relayBatch());
+            total += batch.published;
+            if (batch.claimed < batchSize || batch.published == 0)
+                return total;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void relayScheduled() {
+        try {
+            relayPending();
+        } catch (Exception e) {
+            failures.increment();
+            log.warning("task outbox relay failed, retrying in the next round: " + e);
+        }
+    }
+
+    private Batch relayBatch() {
+        List<TaskOutboxMessage> claimed = jdbcTemplate.query(CLAIM, Map.of("limit", batchSize), MESSAGE);
+        if (claimed.isEmpty())
+            return new Batch(0, 0);
+
+        List<TaskOutboxMessage> publishable = inTaskOrder(claimed);
+        if (publishable.isEmpty())
+            return new Batch(claimed.size(), 0);
+
+        try {
+            publisher.publish(publishable);
+        } catch (Exception e) {
+            throw new IllegalStateException("task outbox publisher failed", e);
+        }
+        List<Long> ids = publishable.stream().map(TaskOutboxMessage::getId).toList();
+        jdbcTemplate.update(DELETE, Map.of("ids", ids));
+
+        published.increment(publishable.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (TaskOutboxMessage message : publishable)
+            lag.record(Duration.between(message.getCreatedAt(), now));
+        return new Batch(claimed.size(), publishable.size());
+    }
+
+    /**
+     * The claimed messages of every task up to the first older or intermediate change of it
+     * that is not claimed, which means another relay holds it.
+     */
+    private List<TaskOutboxMessage> inTaskOrder(List<TaskOutboxMessage> claimed) {
+        Map<Long, TaskOutboxMessage> claimedById = new HashMap<>();
+        for (TaskOutboxMessage message : claimed)
+            claimedById.put(message.getId(), message);
+        Set<Long> taskIds = new HashSet<>();
+        claimed.forEach(message -> taskIds.add(message.getTaskId()));
+        long maxId = claimed.get(claimed.size() - 1).getId();
+
+        Set<Long> blockedTasks = new HashSet<>();
+        Set<Long> publishableIds = new HashSet<>();
+        jdbcTemplate.query(PENDING_OF_TASKS, Map.of("taskIds", taskIds, "maxId", maxId), row -> {
+            long taskId = row.getLong("task_id");
+            long id = row.getLong("id");
+            if (blockedTasks.contains(taskId))
+                return;
+            if (claimedById.containsKey(id))
+                publishableIds.add(id);
+            else
+                blockedTasks.add(taskId);
+        });
+        return claimed.stream().filter(message -> publishableIds.contains(message.getId())).toList();
+    }
+
+    private static final class Batch {
+        private final int claimed;
+        private final int published;
+
+        private Batch(int claimed, int published) {
+            this.claimed = claimed;
+            this.published = published;
+        }
+    }
+}
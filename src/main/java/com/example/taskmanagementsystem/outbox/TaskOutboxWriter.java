@@ -0,0 +1,73 @@
+package com.example.taskmanagementsystem.outbox;
+
+import com.example.taskmanagementsystem.dto.task.TaskChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every task change in the {@code task_outbox} table, in the transaction of the change:
+ * the change and its outbox row are committed or rolled back together.
+ * <p>
+ * The rows of a transaction are inserted in one JDBC batch just before it commits. The changed tasks
+ * are locked by then, so the changes of one task get their outbox ids in the order they commit.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class TaskOutboxWriter {
+
+    private static final String INSERT =
+            "insert into task_outbox (task_id, type, payload, created_at) values (?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(TaskChangeEvent change) throws JsonProcessingException {
+        pendingRows().add(new Object[]{
+                change.getTaskId(),
+                change.getType().name(),
+                objectMapper.writeValueAsString(change),
+                Timestamp.valueOf(change.getDateTime())
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null)
+            return rows;
+
+        List<Object[]> newRows = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newRows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jdbcTemplate.batchUpdate(INSERT, newRows);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(TaskOutboxWriter.this);
+            }
+        });
+        return newRows;
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.taskmanagementsystem.repositories;
 
 import com.example.taskmanagementsystem.models.Comment;
-import com.example.taskmanagementsystem.models.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * @author Yina-ship-it
@@ -10,5 +18,48 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    void deleteAllByTask(Task task);
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Comment c where c.task.id in :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Oldest-first first page of the task comments, served by the {@code (task_id, date_time, id)} index.
+     * The first page and the following ones are separate statements, so each is planned on the index.
+     */
+    @EntityGraph(attributePaths = "commentator")
+    @Query("select c from Comment c where c.task.id = :taskId " +
+            "order by c.dateTime asc, c.id asc")
+    List<Comment> findOldestPage(@Param("taskId") Long taskId, Limit limit);
+
+    /**
+     * Oldest-first keyset page of the task comments following the given position.
+     */
+    @EntityGraph(attributePaths = "commentator")
+    @Query("select c from Comment c where c.task.id = :taskId " +
+            "and (c.dateTime > :afterDateTime or (c.dateTime = :afterDateTime and c.id > :afterId)) " +
+            "order by c.dateTime asc, c.id asc")
+    List<Comment> findPageAfter(@Param("taskId") Long taskId,
+                                @Param("afterDateTime") LocalDateTime afterDateTime,
+                                @Param("afterId") Long afterId,
+                                Limit limit);
+
+    /**
+     * Newest-first first page of the task comments.
+     */
+    @EntityGraph(attributePaths = "commentator")
+    @Query("select c from Comment c where c.task.id = :taskId " +
+            "order by c.dateTime desc, c.id desc")
+    List<Comment> findNewestPage(@Param("taskId") Long taskId, Limit limit);
+
+    /**
+     * Newest-first keyset page of the task comments preceding the given position.
+     */
+    @EntityGraph(attributePaths = "commentator")
+    @Query("select c from Comment c where c.task.id = :taskId " +
+            "and (c.dateTime < :beforeDateTime or (c.dateTime = :beforeDateTime and c.id < :beforeId)) " +
+            "order by c.dateTime desc, c.id desc")
+    List<Comment> findPageBefore(@Param("taskId") Long taskId,
+                                 @Param("beforeDateTime") LocalDateTime beforeDateTime,
+                                 @Param("beforeId") Long beforeId,
+                                 Limit limit);
 }
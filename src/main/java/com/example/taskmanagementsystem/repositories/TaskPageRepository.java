@@ -0,0 +1,26 @@
+package com.example.taskmanagementsystem.repositories;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Keyset pages of tasks with optional filters. The query is built per call and holds only the
+ * predicates of the given filters, so the database plans each combination on its own index.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskPageRepository {
+
+    /**
+     * Keyset page of tasks ordered by id. Only the rows after {@code afterId} are read,
+     * null filters are left out. The author is fetched with the tasks, collections are batch-loaded
+     * to keep the limit in the database.
+     */
+    List<Task> findPageAfter(Long afterId, TaskStatus status, TaskPriority priority, Long authorId, Long assigneeId,
+                             Limit limit);
+}
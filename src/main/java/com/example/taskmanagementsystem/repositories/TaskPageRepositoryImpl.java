@@ -0,0 +1,62 @@
+package com.example.taskmanagementsystem.repositories;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.models.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Transactional(readOnly = true)
+class TaskPageRepositoryImpl implements TaskPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPageAfter(Long afterId, TaskStatus status, TaskPriority priority, Long authorId,
+                                    Long assigneeId, Limit limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = builder.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("author");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.greaterThan(task.get("id"), afterId));
+        if (status != null)
+            predicates.add(builder.equal(task.get("status"), status));
+        if (priority != null)
+            predicates.add(builder.equal(task.get("priority"), priority));
+        if (authorId != null)
+            predicates.add(builder.equal(task.get("author").get("id"), authorId));
+        if (assigneeId != null) {
+            // looked up through task_assignees, a join of the assignees would repeat the task per assignee
+            Subquery<Long> assignees = query.subquery(Long.class);
+            Join<Task, User> assignee = assignees.correlate(task).join("assignees");
+            assignees.select(assignee.get("id")).where(builder.equal(assignee.get("id"), assigneeId));
+            predicates.add(builder.exists(assignees));
+        }
+
+        query.select(task).where(predicates.toArray(Predicate[]::new)).orderBy(builder.asc(task.get("id")));
+        TypedQuery<Task> page = entityManager.createQuery(query);
+        if (limit.isLimited())
+            page.setMaxResults(limit.max());
+        return page.getResultList();
+    }
+}
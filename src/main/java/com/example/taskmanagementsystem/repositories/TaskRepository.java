@@ -2,16 +2,78 @@ package com.example.taskmanagementsystem.repositories;
 
 import com.example.taskmanagementsystem.models.Task;
 import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorIdView;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorView;
+import com.example.taskmanagementsystem.repositories.projections.TaskCountView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Yina-ship-it
  * @since 09.12.2023
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskPageRepository {
+
+    String TASKS_BY_ASSIGNEE = "select t from Task t where t.id in " +
+            "(select ta.id from Task ta join ta.assignees a where a.id = :#{#assignee.id})";
+
+    /*
+     * The tasks of a user for the list paths: author and assignees are fetched with the tasks,
+     * comments and commentators are batch-loaded, so a list costs a constant number of statements.
+     */
+    @EntityGraph(Task.DETAILS_GRAPH)
+    List<Task> findAllWithDetailsByAuthor(User author);
+
+    // looked up through task_assignees, the derived "member of" query scans every task
+    @EntityGraph(Task.DETAILS_GRAPH)
+    @Query(TASKS_BY_ASSIGNEE)
+    List<Task> findAllWithDetailsByAssigneesContains(@Param("assignee") User assignee);
+
+    /**
+     * Reads only the columns of the given closed projection, e.g. {@code TaskStatusView}.
+     */
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
+
+    @Query("select t.id as id, t.author.id as authorId, a.id as assigneeId from Task t left join t.assignees a where t.id in :ids")
+    List<TaskAuthorIdView> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the tasks with one statement; Hibernate removes their {@code task_assignees} rows with it.
+     * The comments have to be deleted before.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.author as author, t.version as version from Task t where t.id = :id")
+    Optional<TaskAuthorView> findAuthorById(@Param("id") Long id);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /*
+     * Task counts per status and priority, counted by the database without loading a task.
+     */
+    @Query("select t.status as status, t.priority as priority, count(t) as count from Task t " +
+            "group by t.status, t.priority")
+    List<TaskCountView> countByStatusAndPriority();
+
+    @Query("select t.status as status, t.priority as priority, count(t) as count from Task t " +
+            "where t.author.id = :authorId " +
+            "group by t.status, t.priority")
+    List<TaskCountView> countByStatusAndPriorityByAuthorId(@Param("authorId") Long authorId);
+
+    // an assignee is listed at most once per task, the join does not count a task twice
+    @Query("select t.status as status, t.priority as priority, count(t) as count from Task t join t.assignees a " +
+            "where a.id = :assigneeId " +
+            "group by t.status, t.priority")
+    List<TaskCountView> countByStatusAndPriorityByAssigneeId(@Param("assigneeId") Long assigneeId);
 
-    List<Task> findAllByAuthor(User author);
-    List<Task> findAllByAssigneesContains(User assignee);
 }
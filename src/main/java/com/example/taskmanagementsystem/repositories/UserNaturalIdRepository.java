@@ -0,0 +1,20 @@
+package com.example.taskmanagementsystem.repositories;
+
+import com.example.taskmanagementsystem.models.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * User lookups that go through the persistence context and the second-level cache
+ * (the natural-id cache for emails) before querying the database.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface UserNaturalIdRepository {
+    Optional<User> findByEmail(String email);
+    List<User> findAllByEmailIn(Collection<String> emails);
+    List<User> findAllByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,50 @@
+package com.example.taskmanagementsystem.repositories;
+
+import com.example.taskmanagementsystem.models.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Transactional(readOnly = true)
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return session().bySimpleNaturalId(User.class).loadOptional(email);
+    }
+
+    @Override
+    public List<User> findAllByEmailIn(Collection<String> emails) {
+        return withoutMissing(session().byMultipleNaturalId(User.class).enableOrderedReturn(false).multiLoad(new ArrayList<>(emails)));
+    }
+
+    @Override
+    public List<User> findAllByIdIn(Collection<Long> ids) {
+        return withoutMissing(session().byMultipleIds(User.class).multiLoad(new ArrayList<>(ids)));
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    /**
+     * The multi-loads answer with {@code null} in place of every key without a user.
+     */
+    private static List<User> withoutMissing(List<User> users) {
+        return users.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanagementsystem.repositories.projections;
+
+/**
+ * Projection reading only the id and the {@code author_id} column of a task,
+ * with one of its assignee ids per row, {@code null} for a task without assignees.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskAuthorIdView {
+    Long getId();
+    Long getAuthorId();
+    Long getAssigneeId();
+}
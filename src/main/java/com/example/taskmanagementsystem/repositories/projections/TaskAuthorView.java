@@ -0,0 +1,14 @@
+package com.example.taskmanagementsystem.repositories.projections;
+
+import com.example.taskmanagementsystem.models.User;
+
+/**
+ * The author of a task with the task {@code version}, the version giving the ETag of the answer.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskAuthorView {
+    User getAuthor();
+    Long getVersion();
+}
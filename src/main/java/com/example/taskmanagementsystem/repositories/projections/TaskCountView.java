@@ -0,0 +1,16 @@
+package com.example.taskmanagementsystem.repositories.projections;
+
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+
+/**
+ * Projection reading one group of a {@code GROUP BY status, priority} count of tasks.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskCountView {
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanagementsystem.repositories.projections;
+
+import com.example.taskmanagementsystem.models.TaskStatus;
+
+/**
+ * Closed projection reading only the {@code status} and {@code version} columns of a task,
+ * the version giving the ETag of the answer.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskStatusView {
+    TaskStatus getStatus();
+    Long getVersion();
+}
@@ -0,0 +1,13 @@
+package com.example.taskmanagementsystem.repositories.projections;
+
+/**
+ * Closed projection reading only the {@code title} and {@code version} columns of a task,
+ * the version giving the ETag of the answer.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskTitleView {
+    String getTitle();
+    Long getVersion();
+}
@@ -0,0 +1,292 @@
+package com.example.taskmanagementsystem.search;
+
+import com.example.taskmanagementsystem.dto.task.TaskChangeEvent;
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index of the tasks kept in memory, for databases without full-text search.
+ * <p>
+ * It is loaded once the application is ready and a task is read again from the database after every committed
+ * change of it. Ranks and fragments follow {@link PostgresTaskSearchIndex}: words weigh 1.0 in the title, 0.4
+ * in the description and 0.1 in a comment, the weights {@code ts_rank} gives to the A, B and D vectors.
+ * Tasks changed around the service, straight through the repositories, are not seen.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    static final String MARK_START = "<mark>";
+    static final String MARK_END = "</mark>";
+
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final double COMMENT_WEIGHT = 0.1;
+    private static final int FRAGMENT_WORDS = 20;
+    private static final int FRAGMENT_WORDS_BEFORE_MATCH = 5;
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Serializes the reloads, so the last one applied has read the last committed change.
+     */
+    private final Object reloads = new Object();
+
+    public InMemoryTaskSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (reloads) {
+            Map<Long, Document> loaded = new LinkedHashMap<>();
+            jdbcTemplate.query("select id, title, description from tasks", row -> {
+                loaded.put(row.getLong("id"),
+                        new Document(row.getLong("id"), row.getString("title"), row.getString("description")));
+            });
+            jdbcTemplate.query("select task_id, text from comments order by id", row -> {
+                Document document = loaded.get(row.getLong("task_id"));
+                if (document != null)
+                    document.comments.add(new Field(row.getString("text")));
+            });
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                loaded.values().forEach(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void reload(TaskChangeEvent change) {
+        Long taskId = change.getTaskId();
+        synchronized (reloads) {
+            List<Document> loaded = jdbcTemplate.query("select id, title, description from tasks where id = ?",
+                    (row, rowNumber) -> new Document(row.getLong("id"), row.getString("title"), row.getString("description")),
+                    taskId);
+            if (!loaded.isEmpty())
+                jdbcTemplate.query("select text from comments where task_id = ? order by id",
+                        row -> {
+                            loaded.get(0).comments.add(new Field(row.getString("text")));
+                        },
+                        taskId);
+            lock.writeLock().lock();
+            try {
+                remove(taskId);
+                if (!loaded.isEmpty())
+                    add(loaded.get(0));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String query, int offset, int limit, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        Set<String> terms = new HashSet<>(words(query));
+        if (terms.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> termPostings = terms.stream()
+                    .map(term -> postings.getOrDefault(term, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+            List<Match> matches = new ArrayList<>();
+            int checked = 0;
+            for (Long taskId : termPostings.get(0)) {
+                if (++checked % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline)
+                    throw new TaskSearchTimeoutException("Search for \"" + query + "\" took longer than " + budget.toMillis() + " ms");
+                if (termPostings.stream().allMatch(taskIds -> taskIds.contains(taskId))) {
+                    Match match = documents.get(taskId).match(terms);
+                    if (match != null)
+                        matches.add(match);
+                }
+            }
+            matches.sort(Comparator.comparingDouble((Match match) -> match.rank).reversed()
+                    .thenComparing(match -> match.document.taskId));
+            return matches.stream().skip(offset).limit(limit).map(match -> match.toHit(terms)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Document document) {
+        documents.put(document.taskId, document);
+        for (String word : document.words())
+            postings.computeIfAbsent(word, term -> new HashSet<>()).add(document.taskId);
+    }
+
+    private void remove(Long taskId) {
+        Document document = documents.remove(taskId);
+        if (document == null)
+            return;
+        for (String word : document.words()) {
+            Set<Long> taskIds = postings.get(word);
+            taskIds.remove(taskId);
+            if (taskIds.isEmpty())
+                postings.remove(word);
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find())
+            words.add(matcher.group().toLowerCase(Locale.ROOT));
+        return words;
+    }
+
+    /**
+     * The text from the word at {@code from} to the one before {@code to}, with the words of the query marked.
+     * The text before the first word and after the last one is kept when they are included. The text is
+     * HTML-escaped, so only the marks are markup.
+     */
+    private static String highlight(String text, Set<String> terms, int from, int to) {
+        StringBuilder highlighted = new StringBuilder();
+        Matcher matcher = WORD.matcher(text);
+        int word = 0;
+        int copied = from == 0 ? 0 : -1;
+        boolean more = true;
+        while (word < to && (more = matcher.find())) {
+            if (word++ < from)
+                continue;
+            if (copied >= 0)
+                highlighted.append(escape(text.substring(copied, matcher.start())));
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT)))
+                highlighted.append(MARK_START).append(escape(matcher.group())).append(MARK_END);
+            else
+                highlighted.append(escape(matcher.group()));
+            copied = matcher.end();
+        }
+        if (more)
+            more = matcher.find();
+        if (!more && copied >= 0)
+            highlighted.append(escape(text.substring(copied)));
+        return highlighted.toString();
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name());
+    }
+
+    private static final class Field {
+        private final String text;
+        private final List<String> words;
+        private final Map<String, Integer> frequencies = new HashMap<>();
+
+        private Field(String text) {
+            this.text = text != null ? text : "";
+            this.words = words(this.text);
+            words.forEach(word -> frequencies.merge(word, 1, Integer::sum));
+        }
+
+        private int frequency(Set<String> terms) {
+            return terms.stream().mapToInt(term -> frequencies.getOrDefault(term, 0)).sum();
+        }
+
+        private boolean containsAll(Set<String> terms) {
+            return frequencies.keySet().containsAll(terms);
+        }
+
+        private String whole(Set<String> terms) {
+            return highlight(text, terms, 0, words.size());
+        }
+
+        private String fragment(Set<String> terms) {
+            int firstMatch = 0;
+            while (firstMatch < words.size() && !terms.contains(words.get(firstMatch)))
+                firstMatch++;
+            int from = Math.max(0, Math.min(firstMatch - FRAGMENT_WORDS_BEFORE_MATCH, words.size() - FRAGMENT_WORDS));
+            return highlight(text, terms, from, from + FRAGMENT_WORDS);
+        }
+    }
+
+    private static final class Document {
+        private final Long taskId;
+        private final Field title;
+        private final Field description;
+        private final List<Field> comments = new ArrayList<>();
+
+        private Document(Long taskId, String title, String description) {
+            this.taskId = taskId;
+            this.title = new Field(title);
+            this.description = new Field(description);
+        }
+
+        private Set<String> words() {
+            Set<String> words = new HashSet<>(title.frequencies.keySet());
+            words.addAll(description.frequencies.keySet());
+            comments.forEach(comment -> words.addAll(comment.frequencies.keySet()));
+            return words;
+        }
+
+        /**
+         * @return {@code null} if neither the title with the description nor a single comment contains every term
+         */
+        private Match match(Set<String> terms) {
+            double rank = 0;
+            boolean matched = terms.stream().allMatch(term ->
+                    title.frequencies.containsKey(term) || description.frequencies.containsKey(term));
+            if (matched)
+                rank += TITLE_WEIGHT * title.frequency(terms) + DESCRIPTION_WEIGHT * description.frequency(terms);
+
+            Field bestComment = null;
+            for (Field comment : comments) {
+                if (!comment.containsAll(terms))
+                    continue;
+                int frequency = comment.frequency(terms);
+                rank += COMMENT_WEIGHT * frequency;
+                if (bestComment == null || frequency > bestComment.frequency(terms))
+                    bestComment = comment;
+            }
+            if (!matched && bestComment == null)
+                return null;
+            return new Match(this, rank, bestComment);
+        }
+    }
+
+    private static final class Match {
+        private final Document document;
+        private final double rank;
+        private final Field comment;
+
+        private Match(Document document, double rank, Field comment) {
+            this.document = document;
+            this.rank = rank;
+            this.comment = comment;
+        }
+
+        private TaskSearchHit toHit(Set<String> terms) {
+            return TaskSearchHit.builder()
+                    .id(document.taskId)
+                    .rank(rank)
+                    .title(document.title.whole(terms))
+                    .description(document.description.containsAll(terms) ? document.description.fragment(terms) : null)
+                    .comment(comment != null ? comment.fragment(terms) : null)
+                    .build();
+        }
+    }
+}
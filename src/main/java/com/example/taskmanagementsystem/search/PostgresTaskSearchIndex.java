@@ -0,0 +1,120 @@
+package com.example.taskmanagementsystem.search;
+
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Searches the {@code search_vector} columns of tasks and comments, both backed by GIN indexes.
+ * <p>
+ * The page is ranked with {@code ts_rank} over every match, then only the tasks of the page are highlighted
+ * with {@code ts_headline}, which reads the whole text. The budget is the {@code statement_timeout} of the
+ * search transaction.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    // ts_headline delimits the matches with characters of the private use area, stripped from the text before,
+    // the headline is HTML-escaped and only then are they replaced by the marks
+    static final String START_SEL = "\uE000";
+    static final String STOP_SEL = "\uE001";
+    private static final String TITLE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL + ", HighlightAll=true";
+    private static final String FRAGMENT_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL + ", MaxWords=20, MinWords=5";
+    private static final String QUERY_CANCELED = "57014";
+
+    private static final String SEARCH = """
+            with q as (select plainto_tsquery('simple', :query) as query),
+            matches as (
+                select t.id as task_id, ts_rank(t.search_vector, q.query) as rank
+                from tasks t, q
+                where t.search_vector @@ q.query
+                union all
+                select c.task_id, ts_rank(c.search_vector, q.query)
+                from comments c, q
+                where c.search_vector @@ q.query
+            ),
+            page as (
+                select task_id, sum(rank) as rank
+                from matches
+                group by task_id
+                order by rank desc, task_id
+                limit :limit offset :offset
+            )
+            select p.task_id, p.rank,
+                   ts_headline('simple', translate(coalesce(t.title, ''), :selectors, ''), q.query, :titleOptions) as title,
+                   case when to_tsvector('simple', coalesce(t.description, '')) @@ q.query
+                        then ts_headline('simple', translate(t.description, :selectors, ''), q.query, :fragmentOptions) end as description,
+                   (select ts_headline('simple', translate(c.text, :selectors, ''), q.query, :fragmentOptions)
+                    from comments c
+                    where c.task_id = p.task_id and c.search_vector @@ q.query
+                    order by ts_rank(c.search_vector, q.query) desc, c.id
+                    limit 1) as comment
+            from page p
+            join tasks t on t.id = p.task_id
+            cross join q
+            order by p.rank desc, p.task_id""";
+
+    private static final RowMapper<TaskSearchHit> HIT = (row, rowNumber) -> TaskSearchHit.builder()
+            .id(row.getLong("task_id"))
+            .rank(row.getDouble("rank"))
+            .title(toHtml(row.getString("title")))
+            .description(toHtml(row.getString("description")))
+            .comment(toHtml(row.getString("comment")))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostgresTaskSearchIndex(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * The headline as HTML: the text escaped, the matches marked.
+     */
+    static String toHtml(String headline) {
+        if (headline == null)
+            return null;
+        return HtmlUtils.htmlEscape(headline, StandardCharsets.UTF_8.name())
+                .replace(START_SEL, InMemoryTaskSearchIndex.MARK_START)
+                .replace(STOP_SEL, InMemoryTaskSearchIndex.MARK_END);
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String query, int offset, int limit, Duration budget) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("offset", offset)
+                .addValue("limit", limit)
+                .addValue("selectors", START_SEL + STOP_SEL)
+                .addValue("titleOptions", TITLE_OPTIONS)
+                .addValue("fragmentOptions", FRAGMENT_OPTIONS);
+        try {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.getJdbcTemplate().execute("set local statement_timeout = " + Math.max(1, budget.toMillis()));
+                return jdbcTemplate.query(SEARCH, parameters, HIT);
+            });
+        } catch (DataAccessException e) {
+            if (e instanceof QueryTimeoutException
+                    || e.getMostSpecificCause() instanceof SQLException cause && QUERY_CANCELED.equals(cause.getSQLState()))
+                throw new TaskSearchTimeoutException("Search for \"" + query + "\" took longer than " + budget.toMillis() + " ms");
+            throw e;
+        }
+    }
+}
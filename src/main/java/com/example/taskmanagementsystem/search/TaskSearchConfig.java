@@ -0,0 +1,32 @@
+package com.example.taskmanagementsystem.search;
+
+import lombok.extern.java.Log;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Searches the {@code tsvector} columns of PostgreSQL, or an in-memory index on databases without them, such as
+ * the H2 database of the tests.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Log
+@Configuration
+public class TaskSearchConfig {
+
+    @Bean
+    public TaskSearchIndex taskSearchIndex(DataSource dataSource) throws MetaDataAccessException {
+        String database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if ("PostgreSQL".equals(database))
+            return new PostgresTaskSearchIndex(dataSource);
+        log.info("No full-text search in " + database + ", tasks are searched in an in-memory index");
+        return new InMemoryTaskSearchIndex(new JdbcTemplate(dataSource));
+    }
+}
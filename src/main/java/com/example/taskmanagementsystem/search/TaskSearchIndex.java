@@ -0,0 +1,28 @@
+package com.example.taskmanagementsystem.search;
+
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Full-text index of task titles, descriptions and comments.
+ * <p>
+ * The query is a list of words, case and punctuation are ignored and words are not stemmed. A task matches
+ * when its title and description together, or one of its comments, contain every word. Title words rank
+ * above description words, which rank above comment words.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * @param offset the number of best matching tasks to skip
+     * @param limit the maximum number of tasks to return
+     * @param budget how long the search may take
+     * @return the matching tasks, the best first
+     * @throws TaskSearchTimeoutException if the search did not complete within its budget
+     */
+    List<TaskSearchHit> search(String query, int offset, int limit, Duration budget);
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanagementsystem.search;
+
+/**
+ * Thrown when a search does not complete within its latency budget; a narrower query is cheaper.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class TaskSearchTimeoutException extends RuntimeException {
+
+    public TaskSearchTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagementsystem.security;
+
+import com.example.taskmanagementsystem.models.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Principal of an authenticated request. Keeps a detached snapshot of the user,
+ * so controllers get the current user without querying the users table again.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private final User user;
+
+    public AuthenticatedUser(User user) {
+        this.user = copyOf(user);
+    }
+
+    public Long getId() {
+        return user.getId();
+    }
+
+    /**
+     * @return a fresh copy of the snapshot, so callers can not change the cached principal
+     */
+    public User getUser() {
+        return copyOf(user);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getPassword() {
+        return user.getPassword();
+    }
+
+    @Override
+    public String getUsername() {
+        return user.getEmail();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    private static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .name(user.getName())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagementsystem.security;
+
+import java.lang.annotation.*;
+
+/**
+ * Injects the {@link com.example.taskmanagementsystem.models.User} of the authenticated request
+ * into a controller method parameter.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
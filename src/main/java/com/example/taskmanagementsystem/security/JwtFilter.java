@@ -1,33 +1,39 @@
 package com.example.taskmanagementsystem.security;
 
 import com.example.taskmanagementsystem.services.impl.UserDetailsServiceImpl;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 import static org.springframework.util.StringUtils.hasText;
 
 /**
+ * Authenticates a request by its bearer token. Being a bean it would also be registered as a servlet filter,
+ * {@link SecurityConfig} disables that registration and the filter skips a request it has already seen,
+ * so the token is parsed once per request.
+ *
  * @author Yina-ship-it
  * @since 08.12.2023
  */
 
 @Component
 @Log
-public class JwtFilter extends GenericFilterBean {
+public class JwtFilter extends OncePerRequestFilter {
 
     public static final String AUTHORIZATION = "Authorization";
+    static final String AUTHENTICATION_OBSERVATION = "security.jwt.authentication";
 
     @Autowired
     private JwtProvider jwtProvider;
@@ -35,24 +41,43 @@ public class JwtFilter extends GenericFilterBean {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
     @Override
-    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
-        String token = getTokenFromRequest((HttpServletRequest) servletRequest);
+    protected void doFilterInternal(HttpServletRequest servletRequest, HttpServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        String token = getTokenFromRequest(servletRequest);
 
-        if (token != null && jwtProvider.validateToken(token)) {
-            String userEmail = jwtProvider.getEmailFromToken(token);
-            try {
-                UserDetails user = userDetailsService.loadUserByUsername(userEmail);
-                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                        user, null, user.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (Exception e) {
-                log.severe("invalid subject in the token payload");
-            }
+        if (token != null) {
+            Observation observation = Observation.createNotStarted(AUTHENTICATION_OBSERVATION, observationRegistry)
+                    .contextualName("jwt authentication");
+            observation.observe(() -> observation.lowCardinalityKeyValue("outcome", authenticate(token)));
         }
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
+    /**
+     * @return the outcome tag of the authentication observation
+     */
+    private String authenticate(String token) {
+        String userEmail = jwtProvider.getEmailFromValidToken(token);
+        if (userEmail == null)
+            return "invalid-token";
+        try {
+            UserDetails user = principalCache.get(userEmail, userDetailsService::loadUserByUsername);
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                    user, null, user.getAuthorities());
+            SecurityContextHolder.getContext().setAuthentication(auth);
+            return "authenticated";
+        } catch (Exception e) {
+            log.severe("invalid subject in the token payload");
+            return "unknown-user";
+        }
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader(AUTHORIZATION);
 
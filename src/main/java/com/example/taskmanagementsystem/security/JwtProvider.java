@@ -1,6 +1,5 @@
 package com.example.taskmanagementsystem.security;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.java.Log;
@@ -32,18 +31,17 @@ public class JwtProvider {
 
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Validates the token and reads its subject with a single parse.
+     *
+     * @return the email of the token, or {@code null} if the token is invalid
+     */
+    public String getEmailFromValidToken(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token);
-            return true;
+            return Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody().getSubject();
         } catch (Exception e) {
             log.severe("invalid token");
         }
-        return false;
-    }
-
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return null;
     }
 }
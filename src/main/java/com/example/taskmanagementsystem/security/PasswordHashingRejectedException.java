@@ -0,0 +1,14 @@
+package com.example.taskmanagementsystem.security;
+
+/**
+ * Thrown when the password hashing queue is full; the request should be retried later.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
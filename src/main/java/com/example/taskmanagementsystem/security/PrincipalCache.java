@@ -0,0 +1,57 @@
+package com.example.taskmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of authenticated principals keyed by email, so that a request with a known
+ * token does not reach the users table. Entries expire after the configured TTL and are
+ * invalidated whenever the user is written, see {@link PrincipalCacheListener}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> principals;
+    // counts the invalidations, a principal loaded before one of them may be stale and is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        AuthenticatedUser cached = principals.getIfPresent(email);
+        if (cached != null)
+            return cached;
+        long invalidationsBefore = invalidations.get();
+        // not loaded inside the cache: the query may flush a user and re-enter invalidate()
+        AuthenticatedUser principal = loader.apply(email);
+        // the check and the put are atomic for the key, an invalidate() of it waits for them
+        principals.asMap().compute(email, (key, current) ->
+                invalidations.get() == invalidationsBefore ? principal : current);
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        invalidations.incrementAndGet();
+        principals.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        principals.invalidateAll();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagementsystem.security;
+
+import com.example.taskmanagementsystem.models.User;
+import jakarta.persistence.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the cached principal of a user on every write of the users table,
+ * so the snapshot in {@link AuthenticatedUser} never outlives the row it was read from.
+ * Inserts and deletes are also handled before the flush, as sequence ids delay the statement.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Component
+public class PrincipalCacheListener {
+
+    @Autowired @Lazy
+    private PrincipalCache principalCache;
+
+    @PrePersist
+    @PostPersist
+    @PostUpdate
+    @PreRemove
+    @PostRemove
+    public void invalidate(User user) {
+        principalCache.invalidate(user.getEmail());
+    }
+}
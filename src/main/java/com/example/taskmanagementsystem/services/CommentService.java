@@ -1,10 +1,11 @@
 package com.example.taskmanagementsystem.services;
 
+import com.example.taskmanagementsystem.dto.comment.CommentCursor;
 import com.example.taskmanagementsystem.dto.comment.CommentDto;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
-import com.example.taskmanagementsystem.models.Task;
 import com.example.taskmanagementsystem.models.User;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,8 +14,9 @@ import java.util.List;
  */
 public interface CommentService {
     CommentDto findCommentById(Long id);
+    List<CommentDto> findCommentsPage(Long taskId, CommentCursor cursor, int size, boolean newestFirst);
     CommentDto createComment(CommentDto commentDto);
     void deleteCommentById(Long id, User commentatorOrTaskAuthor);
-    Task deleteAllCommentsInTask(Task task);
+    int deleteAllCommentsInTasks(Collection<Long> taskIds);
     CommentDto updateText(Long id, String text, User commentator);
 }
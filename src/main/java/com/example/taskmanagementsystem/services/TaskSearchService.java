@@ -0,0 +1,18 @@
+package com.example.taskmanagementsystem.services;
+
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+
+import java.util.List;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskSearchService {
+    /**
+     * Ranking a deeper page costs as much as ranking all the pages before it.
+     */
+    int MAX_HITS = 1000;
+
+    List<TaskSearchHit> searchTasks(String query, int page, int size);
+}
@@ -1,33 +1,65 @@
 package com.example.taskmanagementsystem.services;
 
+import com.example.taskmanagementsystem.dto.comment.CommentCursor;
 import com.example.taskmanagementsystem.dto.comment.CommentDto;
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
-import com.example.taskmanagementsystem.models.TaskPriority;
-import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.dto.task.TaskFilter;
+import com.example.taskmanagementsystem.dto.task.TaskPatchRequest;
+import com.example.taskmanagementsystem.dto.task.TaskRequest;
+import com.example.taskmanagementsystem.dto.task.TaskWriteResult;
 import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorView;
+import com.example.taskmanagementsystem.repositories.projections.TaskDescriptionView;
+import com.example.taskmanagementsystem.repositories.projections.TaskPriorityView;
+import com.example.taskmanagementsystem.repositories.projections.TaskStatusView;
+import com.example.taskmanagementsystem.repositories.projections.TaskTitleView;
 
 import java.util.List;
 
 /**
+ * The {@code expectedVersion} of a write is the task version the client last saw, {@code null} for an
+ * unconditional write. The task is locked before it is compared, so no change can slip in between, and
+ * a mismatch throws {@link TaskVersionMismatchException}.
+ * <p>
+ * The field and assignee writes build the task only {@code withRepresentation}, otherwise their
+ * {@link TaskWriteResult} holds just the new version.
+ * <p>
+ * The comment writes that do not answer the task give its new version instead: the comment created by
+ * {@link #createCommentInTask} holds the task at that version, {@link #deleteCommentInTask} returns it.
+ *
  * @author Yina-ship-it
  * @since 09.12.2023
  */
 public interface TaskService {
-    List<TaskDto> findAllTasks();
+    List<TaskDto> findTasksPage(TaskFilter filter, Long cursor, int size);
     TaskDto findTaskById(Long id);
+    Long findTaskIdById(Long id);
+    Long findTaskVersionById(Long id);
+    TaskTitleView findTaskTitleById(Long id);
+    TaskDescriptionView findTaskDescriptionById(Long id);
+    TaskStatusView findTaskStatusById(Long id);
+    TaskPriorityView findTaskPriorityById(Long id);
+    TaskAuthorView findTaskAuthorById(Long id);
     TaskDto createTask(TaskDto taskDto);
-    void deleteTaskById(Long id, User author);
+    List<TaskBatchResult> createTasks(List<TaskRequest> taskRequests, User author);
+    void deleteTaskById(Long id, User author, Long expectedVersion);
+    int deleteTasksByIds(List<Long> ids, User author);
+    TaskWriteResult patchTaskById(Long id, TaskPatchRequest patch, User authorOrAssignee, Long expectedVersion, boolean withRepresentation);
 
-    TaskDto updateTaskTitleById(Long id, String title, User author);
-    TaskDto updateTaskDescriptionById(Long id, String description, User author);
-    TaskDto updateTaskStatusById(Long id, Integer taskStatusValue, User authorOrAssignee);
-    TaskDto updateTaskPriorityById(Long id, Integer taskPriorityValue, User author);
-    TaskDto removeAssigneeByIdInTask( Long taskId, Long assigneeId, User author);
-    TaskDto removeAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author);
-    TaskDto appendAssigneeByIdInTask(Long taskId, Long assigneeId, User author);
-    TaskDto appendAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author);
-    TaskDto appendCommentInTask(Long taskId, CommentDto commentDto, User commentator);
-    TaskDto removeCommentByIdInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor);
+    TaskWriteResult updateTaskTitleById(Long id, String title, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult updateTaskDescriptionById(Long id, String description, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult updateTaskStatusById(Long id, Integer taskStatusValue, User authorOrAssignee, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult updateTaskPriorityById(Long id, Integer taskPriorityValue, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult removeAssigneeByIdInTask(Long taskId, Long assigneeId, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult removeAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult appendAssigneeByIdInTask(Long taskId, Long assigneeId, User author, Long expectedVersion, boolean withRepresentation);
+    TaskWriteResult appendAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author, Long expectedVersion, boolean withRepresentation);
+    TaskDto appendCommentInTask(Long taskId, CommentDto commentDto, User commentator, Long expectedVersion);
+    List<CommentDto> findTaskCommentsPage(Long taskId, CommentCursor cursor, int size, boolean newestFirst);
+    CommentDto createCommentInTask(Long taskId, CommentDto commentDto, User commentator, Long expectedVersion);
+    TaskDto removeCommentByIdInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor, Long expectedVersion);
+    Long deleteCommentInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor, Long expectedVersion);
 
     List<TaskDto> findAllTasksByAuthor(User author);
     List<TaskDto> findAllTasksByAssignee(User assignee);
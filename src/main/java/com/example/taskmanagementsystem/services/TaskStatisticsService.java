@@ -0,0 +1,14 @@
+package com.example.taskmanagementsystem.services;
+
+import com.example.taskmanagementsystem.dto.task.TaskStatistics;
+import com.example.taskmanagementsystem.models.User;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public interface TaskStatisticsService {
+    TaskStatistics findTaskStatistics();
+    TaskStatistics findTaskStatisticsByAuthor(User author);
+    TaskStatistics findTaskStatisticsByAssignee(User assignee);
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanagementsystem.services;
+
+/**
+ * Thrown by a conditional write when the task is no longer at the version the client expects,
+ * so the change it asked for would overwrite one it has not seen.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public class TaskVersionMismatchException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public TaskVersionMismatchException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * @return the version of the task, {@code null} when the expected version was not read from the task
+     */
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.taskmanagementsystem.services;
 
 import com.example.taskmanagementsystem.models.User;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,6 +13,8 @@ public interface UserService {
     List<User> findAllUsers();
     User findByEmail(String email);
     User findById(Long id);
+    List<User> findAllByIds(Collection<Long> ids);
+    List<User> findAllByEmails(Collection<String> emails);
     User findByEmailAndPassword(String email, String password);
     void saveUser(User user);
 
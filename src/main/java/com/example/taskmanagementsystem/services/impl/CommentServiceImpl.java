@@ -1,18 +1,22 @@
 package com.example.taskmanagementsystem.services.impl;
 
+import com.example.taskmanagementsystem.dto.comment.CommentCursor;
 import com.example.taskmanagementsystem.dto.comment.CommentDto;
 import com.example.taskmanagementsystem.dto.comment.CommentDtoConverter;
 import com.example.taskmanagementsystem.models.Comment;
-import com.example.taskmanagementsystem.models.Task;
 import com.example.taskmanagementsystem.models.User;
 import com.example.taskmanagementsystem.repositories.CommentRepository;
 import com.example.taskmanagementsystem.services.CommentService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * @author Yina-ship-it
@@ -20,8 +24,11 @@ import java.time.LocalDateTime;
  */
 @Service
 @Primary
+@Observed(name = "service.calls")
 public class CommentServiceImpl implements CommentService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CommentRepository commentRepository;
 
@@ -33,6 +40,23 @@ public class CommentServiceImpl implements CommentService {
         return commentDtoConverter.convertEntityToDto(getCommentById(id));
     }
 
+    @Override
+    public List<CommentDto> findCommentsPage(Long taskId, CommentCursor cursor, int size, boolean newestFirst) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Invalid page size=" + size + ", must be between 1 and " + MAX_PAGE_SIZE);
+
+        List<Comment> comments;
+        if (cursor == null)
+            comments = newestFirst ?
+                    commentRepository.findNewestPage(taskId, Limit.of(size)) :
+                    commentRepository.findOldestPage(taskId, Limit.of(size));
+        else
+            comments = newestFirst ?
+                    commentRepository.findPageBefore(taskId, cursor.getDateTime(), cursor.getId(), Limit.of(size)) :
+                    commentRepository.findPageAfter(taskId, cursor.getDateTime(), cursor.getId(), Limit.of(size));
+        return comments.stream().map(commentDtoConverter::convertEntityToDto).toList();
+    }
+
     @Override
     public CommentDto createComment(CommentDto commentDto) {
         validateText(commentDto.getText());
@@ -51,10 +75,8 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public Task deleteAllCommentsInTask(Task task) {
-        commentRepository.deleteAllByTask(task);
-        task.getComments().clear();
-        return task;
+    public int deleteAllCommentsInTasks(Collection<Long> taskIds) {
+        return commentRepository.deleteAllByTaskIdIn(taskIds);
     }
 
     @Override
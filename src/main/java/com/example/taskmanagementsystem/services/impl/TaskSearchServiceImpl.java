@@ -0,0 +1,65 @@
+package com.example.taskmanagementsystem.services.impl;
+
+import com.example.taskmanagementsystem.dto.task.TaskSearchHit;
+import com.example.taskmanagementsystem.search.TaskSearchIndex;
+import com.example.taskmanagementsystem.search.TaskSearchTimeoutException;
+import com.example.taskmanagementsystem.services.TaskSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Service
+@Primary
+@Observed(name = "service.calls")
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+    static final String SEARCH_TIMER = "task.search";
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${search.budget-ms:500}")
+    private long budgetMillis;
+
+    @Override
+    public List<TaskSearchHit> searchTasks(String query, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH)
+            throw new IllegalArgumentException("Invalid search query, must have between 1 and " + MAX_QUERY_LENGTH + " characters");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Invalid page size=" + size + ", must be between 1 and " + MAX_PAGE_SIZE);
+        if (page < 0 || (long) (page + 1) * size > MAX_HITS)
+            throw new IllegalArgumentException("Invalid page=" + page + ", only the first " + MAX_HITS + " hits are paged");
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            List<TaskSearchHit> hits = taskSearchIndex.search(query, page * size, size, Duration.ofMillis(budgetMillis));
+            outcome = "success";
+            return hits;
+        } catch (TaskSearchTimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(SEARCH_TIMER)
+                    .description("Full-text searches of tasks")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
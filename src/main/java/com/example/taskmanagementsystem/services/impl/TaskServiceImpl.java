@@ -1,20 +1,47 @@
 package com.example.taskmanagementsystem.services.impl;
 
+import com.example.taskmanagementsystem.dto.comment.CommentCursor;
 import com.example.taskmanagementsystem.dto.comment.CommentDto;
 import com.example.taskmanagementsystem.dto.comment.CommentDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
+import com.example.taskmanagementsystem.dto.task.TaskChangeEvent;
+import com.example.taskmanagementsystem.dto.task.TaskChangeType;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskFilter;
+import com.example.taskmanagementsystem.dto.task.TaskPatchRequest;
+import com.example.taskmanagementsystem.dto.task.TaskRequest;
+import com.example.taskmanagementsystem.dto.task.TaskWriteResult;
 import com.example.taskmanagementsystem.models.*;
 import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorIdView;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorView;
+import com.example.taskmanagementsystem.repositories.projections.TaskDescriptionView;
+import com.example.taskmanagementsystem.repositories.projections.TaskPriorityView;
+import com.example.taskmanagementsystem.repositories.projections.TaskStatusView;
+import com.example.taskmanagementsystem.repositories.projections.TaskTitleView;
 import com.example.taskmanagementsystem.services.CommentService;
 import com.example.taskmanagementsystem.services.TaskService;
+import com.example.taskmanagementsystem.services.TaskVersionMismatchException;
 import com.example.taskmanagementsystem.services.UserService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,8 +50,15 @@ import java.util.stream.Collectors;
  */
 @Service
 @Primary
+@Observed(name = "service.calls")
 public class TaskServiceImpl implements TaskService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 5000;
+    private static final int BATCH_CHUNK_SIZE = 500;
+    // spring.jpa.properties.hibernate.jdbc.batch_size, the inserts flushed together go out as one JDBC batch
+    private static final int FLUSH_SIZE = 50;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -40,9 +74,24 @@ public class TaskServiceImpl implements TaskService {
     @Autowired
     private TaskDtoConverter taskDtoConverter;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
-    public List<TaskDto> findAllTasks() {
-        List<Task> tasks = taskRepository.findAll();
+    public List<TaskDto> findTasksPage(TaskFilter filter, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Invalid page size=" + size + ", must be between 1 and " + MAX_PAGE_SIZE);
+
+        List<Task> tasks = taskRepository.findPageAfter(
+                cursor != null ? cursor : 0L,
+                filter.getStatus(),
+                filter.getPriority(),
+                filter.getAuthorId(),
+                filter.getAssigneeId(),
+                Limit.of(size));
         return tasks.stream().map(taskDtoConverter::convertEntityToDto).toList();
     }
 
@@ -53,6 +102,44 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    public Long findTaskIdById(Long id) {
+        if (!taskRepository.existsById(id))
+            throw taskNotFound(id);
+        return id;
+    }
+
+    @Override
+    public Long findTaskVersionById(Long id) {
+        return taskRepository.findVersionById(id).orElseThrow(() -> taskNotFound(id));
+    }
+
+    @Override
+    public TaskTitleView findTaskTitleById(Long id) {
+        return getTaskProjectionById(id, TaskTitleView.class);
+    }
+
+    @Override
+    public TaskDescriptionView findTaskDescriptionById(Long id) {
+        return getTaskProjectionById(id, TaskDescriptionView.class);
+    }
+
+    @Override
+    public TaskStatusView findTaskStatusById(Long id) {
+        return getTaskProjectionById(id, TaskStatusView.class);
+    }
+
+    @Override
+    public TaskPriorityView findTaskPriorityById(Long id) {
+        return getTaskProjectionById(id, TaskPriorityView.class);
+    }
+
+    @Override
+    public TaskAuthorView findTaskAuthorById(Long id) {
+        return taskRepository.findAuthorById(id).orElseThrow(() -> taskNotFound(id));
+    }
+
+    @Override
+    @Transactional
     public TaskDto createTask(TaskDto taskDto) {
         validateTaskDto(taskDto);
 
@@ -61,136 +148,308 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskDtoConverter.convertDtoToEntity(taskDto);
         task.setAssignees(assignees);
 
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        publishChange(saved, TaskChangeType.CREATED, saved.getAuthor());
+        return taskDtoConverter.convertEntityToDto(saved);
     }
 
     @Override
-    public void deleteTaskById(Long id, User user) {
-        Task task = getTaskById(id);
+    @Transactional
+    public List<TaskBatchResult> createTasks(List<TaskRequest> taskRequests, User author) {
+        if (taskRequests == null || taskRequests.isEmpty() || taskRequests.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks");
+
+        List<TaskBatchResult> results = new ArrayList<>(taskRequests.size());
+        for (int from = 0; from < taskRequests.size(); from += BATCH_CHUNK_SIZE) {
+            int to = Math.min(from + BATCH_CHUNK_SIZE, taskRequests.size());
+            results.addAll(createTasksChunk(taskRequests.subList(from, to), from, author));
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTaskById(Long id, User user, Long expectedVersion) {
+        Task task = getTaskById(id, expectedVersion);
         validateAuthor(task, user);
-        task = commentService.deleteAllCommentsInTask(task);
-        taskRepository.delete(task);
+        // the assignees are read before the statements delete them
+        publishChange(task, TaskChangeType.DELETED, user);
+        deleteTasks(List.of(id));
     }
 
     @Override
-    public TaskDto updateTaskTitleById(Long id, String title, User author) {
-        Task task = getTaskById(id);
+    @Transactional
+    public int deleteTasksByIds(List<Long> ids, User author) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " task ids");
+
+        List<Long> uniqueIds = ids.stream().distinct().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < uniqueIds.size(); from += BATCH_CHUNK_SIZE)
+            chunks.add(uniqueIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, uniqueIds.size())));
+
+        // every task is checked before anything is deleted
+        List<Map<Long, Set<Long>>> assigneeIds = new ArrayList<>();
+        for (List<Long> chunk : chunks)
+            assigneeIds.add(validateAuthorOfAll(chunk, author));
+        for (int i = 0; i < chunks.size(); i++) {
+            deleteTasks(chunks.get(i));
+            for (Long id : chunks.get(i))
+                publishDeletion(id, author, assigneeIds.get(i).get(id));
+        }
+        return uniqueIds.size();
+    }
+
+    @Override
+    @Transactional
+    public TaskWriteResult patchTaskById(Long id, TaskPatchRequest patch, User authorOrAssignee, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(id, expectedVersion);
+
+        if (patch.getTitle() != null || patch.getDescription() != null || patch.getPriorityValue() != null)
+            validateAuthor(task, authorOrAssignee);
+        else
+            validateAuthorOrAssignee(task, authorOrAssignee);
+        String title = task.getTitle();
+        String description = task.getDescription();
+        TaskStatus status = task.getStatus();
+        TaskPriority priority = task.getPriority();
+
+        if (patch.getTitle() != null) {
+            String newTitle = patch.getTitle().orElse(null);
+            if (newTitle == null || newTitle.isBlank())
+                throw new IllegalArgumentException("Invalid title=" + newTitle);
+            task.setTitle(newTitle);
+        }
+        if (patch.getDescription() != null)
+            task.setDescription(patch.getDescription().orElse(""));
+        if (patch.getStatusValue() != null)
+            task.setStatus(TaskStatus.getByValue(patch.getStatusValue()
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid status value=null"))));
+        if (patch.getPriorityValue() != null)
+            task.setPriority(TaskPriority.getByValue(patch.getPriorityValue()
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid priority value=null"))));
+
+        // a single dirty-checked UPDATE, flushed now for the incremented version
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        List<TaskChangeType> changes = new ArrayList<>();
+        if (!Objects.equals(saved.getTitle(), title))
+            changes.add(TaskChangeType.TITLE);
+        if (!Objects.equals(saved.getDescription(), description))
+            changes.add(TaskChangeType.DESCRIPTION);
+        if (saved.getStatus() != status)
+            changes.add(TaskChangeType.STATUS);
+        if (saved.getPriority() != priority)
+            changes.add(TaskChangeType.PRIORITY);
+        if (!changes.isEmpty()) {
+            Set<Long> userIds = notifiedUserIds(saved);
+            changes.forEach(type -> publishChange(saved, type, authorOrAssignee, userIds));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public TaskWriteResult updateTaskTitleById(Long id, String title, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(id, expectedVersion);
 
         validateAuthor(task, author);
         if (title == null || title.isBlank())
             throw new IllegalArgumentException("Invalid title=" + title);
 
+        boolean changed = !title.equals(task.getTitle());
         task.setTitle(title);
 
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        Task saved = taskRepository.saveAndFlush(task);
+
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (changed)
+            publishChange(saved, TaskChangeType.TITLE, author);
+        return result;
     }
 
     @Override
-    public TaskDto updateTaskDescriptionById(Long id, String description, User author) {
-        Task task = getTaskById(id);
+    @Transactional
+    public TaskWriteResult updateTaskDescriptionById(Long id, String description, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(id, expectedVersion);
 
         validateAuthor(task, author);
         if (description == null)
             throw new IllegalArgumentException("Invalid description=null");
 
+        boolean changed = !description.equals(task.getDescription());
         task.setDescription(description);
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (changed)
+            publishChange(saved, TaskChangeType.DESCRIPTION, author);
+        return result;
     }
 
     @Override
-    public TaskDto updateTaskStatusById(Long id, Integer taskStatusValue, User authorOrAssignee) {
-        Task task = getTaskById(id);
+    @Transactional
+    public TaskWriteResult updateTaskStatusById(Long id, Integer taskStatusValue, User authorOrAssignee, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(id, expectedVersion);
 
         validateAuthorOrAssignee(task, authorOrAssignee);
-        task.setStatus(TaskStatus.getByValue(taskStatusValue));
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        TaskStatus status = TaskStatus.getByValue(taskStatusValue);
+        boolean changed = task.getStatus() != status;
+        task.setStatus(status);
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (changed)
+            publishChange(saved, TaskChangeType.STATUS, authorOrAssignee);
+        return result;
     }
 
     @Override
-    public TaskDto updateTaskPriorityById(Long id, Integer taskPriorityValue, User author) {
-        Task task = getTaskById(id);
+    @Transactional
+    public TaskWriteResult updateTaskPriorityById(Long id, Integer taskPriorityValue, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(id, expectedVersion);
 
         validateAuthor(task, author);
-        task.setPriority(TaskPriority.getByValue(taskPriorityValue));
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        TaskPriority priority = TaskPriority.getByValue(taskPriorityValue);
+        boolean changed = task.getPriority() != priority;
+        task.setPriority(priority);
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (changed)
+            publishChange(saved, TaskChangeType.PRIORITY, author);
+        return result;
     }
 
     @Override
-    public TaskDto removeAssigneeByIdInTask(Long taskId, Long assigneeId, User author) {
-        Task task = getTaskById(taskId);
+    @Transactional
+    public TaskWriteResult removeAssigneeByIdInTask(Long taskId, Long assigneeId, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(taskId, expectedVersion);
         User assignee = userService.findById(assigneeId);
 
         validateAuthor(task, author);
 
-        if (task.getAssignees().remove(assignee))
-            return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        if (task.getAssignees().remove(assignee)) {
+            Task saved = taskRepository.saveAndFlush(task);
+            TaskWriteResult result = writeResult(saved, withRepresentation);
+            publishChange(saved, TaskChangeType.ASSIGNEES, author, assignee);
+            return result;
+        }
 
         throw new IllegalArgumentException("Assignee with id=" + assigneeId +" does not exist in the Task.assigness");
     }
 
     @Override
-    public TaskDto removeAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author) {
-        Task task = getTaskById(taskId);
+    @Transactional
+    public TaskWriteResult removeAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(taskId, expectedVersion);
         User assignee = userService.findByEmail(assigneeEmail);
 
         validateAuthor(task, author);
-        if (task.getAssignees().remove(assignee))
-            return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        if (task.getAssignees().remove(assignee)) {
+            Task saved = taskRepository.saveAndFlush(task);
+            TaskWriteResult result = writeResult(saved, withRepresentation);
+            publishChange(saved, TaskChangeType.ASSIGNEES, author, assignee);
+            return result;
+        }
 
         throw new IllegalArgumentException("Assignee with email=" + assigneeEmail +" does not exist in the Task.assigness");
     }
 
     @Override
-    public TaskDto appendAssigneeByIdInTask(Long taskId, Long assigneeId, User author) {
-        Task task = getTaskById(taskId);
+    @Transactional
+    public TaskWriteResult appendAssigneeByIdInTask(Long taskId, Long assigneeId, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(taskId, expectedVersion);
         User assignee = userService.findById(assigneeId);
 
         validateAuthor(task, author);
-        if (!task.getAssignees().contains(assignee))
-            task.getAssignees().add(assignee);
+        boolean added = !task.getAssignees().contains(assignee) && task.getAssignees().add(assignee);
 
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        Task saved = taskRepository.saveAndFlush(task);
+
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (added)
+            publishChange(saved, TaskChangeType.ASSIGNEES, author);
+        return result;
     }
 
     @Override
-    public TaskDto appendAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author) {
-        Task task = getTaskById(taskId);
+    @Transactional
+    public TaskWriteResult appendAssigneeByEmailInTask(Long taskId, String assigneeEmail, User author, Long expectedVersion, boolean withRepresentation) {
+        Task task = getTaskById(taskId, expectedVersion);
         User assignee = userService.findByEmail(assigneeEmail);
 
         validateAuthor(task, author);
-        if (!task.getAssignees().contains(assignee))
-            task.getAssignees().add(assignee);
+        boolean added = !task.getAssignees().contains(assignee) && task.getAssignees().add(assignee);
+
+        Task saved = taskRepository.saveAndFlush(task);
 
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        TaskWriteResult result = writeResult(saved, withRepresentation);
+        if (added)
+            publishChange(saved, TaskChangeType.ASSIGNEES, author);
+        return result;
     }
 
     @Override
-    public TaskDto appendCommentInTask(Long taskId, CommentDto commentDto, User commentator) {
-        Task task = getTaskById(taskId);
-        commentDto.setCommentator(commentator);
-        commentDto.setTask(task);
-        task.getComments().add(commentDtoConverter.convertDtoToEntity(commentService.createComment(commentDto)));
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+    @Transactional
+    public TaskDto appendCommentInTask(Long taskId, CommentDto commentDto, User commentator, Long expectedVersion) {
+        Task task = getTaskIncrementingVersion(taskId, expectedVersion);
+        task.getComments().add(commentDtoConverter.convertDtoToEntity(createComment(task, commentDto, commentator)));
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskDto result = taskDtoConverter.convertEntityToDto(saved);
+        publishChange(saved, TaskChangeType.COMMENTS, commentator);
+        return result;
     }
 
     @Override
-    public TaskDto removeCommentByIdInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor) {
-        Task task = getTaskById(taskId);
-        Comment comment = commentDtoConverter.convertDtoToEntity(commentService.findCommentById(commentId));
-        commentService.deleteCommentById(commentId, commentatorOrTaskAuthor);
+    public List<CommentDto> findTaskCommentsPage(Long taskId, CommentCursor cursor, int size, boolean newestFirst) {
+        List<CommentDto> comments = commentService.findCommentsPage(taskId, cursor, size, newestFirst);
+        // an empty page is the only one that does not prove the task exists
+        if (comments.isEmpty() && !taskRepository.existsById(taskId))
+            throw taskNotFound(taskId);
+        return comments;
+    }
+
+    @Override
+    @Transactional
+    public CommentDto createCommentInTask(Long taskId, CommentDto commentDto, User commentator, Long expectedVersion) {
+        Task task = getTaskIncrementingVersion(taskId, expectedVersion);
+        CommentDto comment = createComment(task, commentDto, commentator);
+        publishChange(task, TaskChangeType.COMMENTS, commentator);
+        return comment;
+    }
+
+    @Override
+    @Transactional
+    public TaskDto removeCommentByIdInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor, Long expectedVersion) {
+        Task task = getTaskIncrementingVersion(taskId, expectedVersion);
+        Comment comment = commentDtoConverter.convertDtoToEntity(deleteComment(taskId, commentId, commentatorOrTaskAuthor));
         task.getComments().remove(comment);
-        return taskDtoConverter.convertEntityToDto(taskRepository.save(task));
+        Task saved = taskRepository.saveAndFlush(task);
+        TaskDto result = taskDtoConverter.convertEntityToDto(saved);
+        publishChange(saved, TaskChangeType.COMMENTS, commentatorOrTaskAuthor);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public Long deleteCommentInTask(Long taskId, Long commentId, User commentatorOrTaskAuthor, Long expectedVersion) {
+        Task task = getTaskIncrementingVersion(taskId, expectedVersion);
+        CommentDto comment = deleteComment(taskId, commentId, commentatorOrTaskAuthor);
+        // the comments are not loaded for this, only an already loaded list has to forget the comment
+        List<Comment> comments = comment.getTask().getComments();
+        if (Hibernate.isInitialized(comments))
+            comments.remove(commentDtoConverter.convertDtoToEntity(comment));
+        publishChange(task, TaskChangeType.COMMENTS, commentatorOrTaskAuthor);
+        return task.getVersion();
     }
 
     @Override
     public List<TaskDto> findAllTasksByAuthor(User author) {
-        List<Task> tasks = taskRepository.findAllByAuthor(author);
+        List<Task> tasks = taskRepository.findAllWithDetailsByAuthor(author);
         return tasks.stream().map(taskDtoConverter::convertEntityToDto).toList();
     }
 
     @Override
     public List<TaskDto> findAllTasksByAssignee(User assignee) {
-        List<Task> tasks = taskRepository.findAllByAssigneesContains(assignee);
+        List<Task> tasks = taskRepository.findAllWithDetailsByAssigneesContains(assignee);
         return tasks.stream().map(taskDtoConverter::convertEntityToDto).toList();
     }
 
@@ -206,12 +465,119 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    /**
+     * @return the assignee ids of every task, read with the authors to notify them of the deletion
+     */
+    private Map<Long, Set<Long>> validateAuthorOfAll(List<Long> ids, User author) {
+        Map<Long, Long> authorIds = new HashMap<>();
+        Map<Long, Set<Long>> assigneeIds = new HashMap<>();
+        for (TaskAuthorIdView task : taskRepository.findAuthorIdsByIdIn(ids)) {
+            authorIds.put(task.getId(), task.getAuthorId());
+            Set<Long> taskAssigneeIds = assigneeIds.computeIfAbsent(task.getId(), id -> new HashSet<>());
+            if (task.getAssigneeId() != null)
+                taskAssigneeIds.add(task.getAssigneeId());
+        }
+        for (Long id : ids) {
+            if (!authorIds.containsKey(id))
+                throw taskNotFound(id);
+            if (!Objects.equals(authorIds.get(id), author.getId()))
+                throw new IllegalArgumentException("Only the author can delete the task with id=" + id);
+        }
+        return assigneeIds;
+    }
+
+    /**
+     * Removes the tasks with a constant number of set-based statements, however many comments they have.
+     */
+    private void deleteTasks(Collection<Long> ids) {
+        commentService.deleteAllCommentsInTasks(ids);
+        taskRepository.deleteAllByIdIn(ids);
+    }
+
     private void validateAuthor(Task task, User user) {
         if (!task.getAuthor().equals(user)) {
             throw new IllegalArgumentException("Only the author can update the task");
         }
     }
 
+    private List<TaskBatchResult> createTasksChunk(List<TaskRequest> taskRequests, int offset, User author) {
+        TaskBatchResult[] results = new TaskBatchResult[taskRequests.size()];
+        List<TaskDto> taskDtos = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            try {
+                TaskDto taskDto = taskDtoConverter.convertRequestToDto(taskRequests.get(i));
+                validateTaskDto(taskDto);
+                taskDto.setAuthor(author);
+                taskDtos.add(taskDto);
+            } catch (RuntimeException e) {
+                results[i] = TaskBatchResult.failed(offset + i, e.getMessage());
+                taskDtos.add(null);
+            }
+        }
+
+        Map<Long, User> usersById = userService.findAllByIds(collectAssigneeKeys(taskDtos, User::getId)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, User> usersByEmail = userService.findAllByEmails(collectAssigneeKeys(taskDtos, User::getEmail)).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < taskDtos.size(); i++) {
+            TaskDto taskDto = taskDtos.get(i);
+            if (taskDto == null)
+                continue;
+            try {
+                Task task = taskDtoConverter.convertDtoToEntity(taskDto);
+                task.setAssignees(getAssigneesFromDto(taskDto, usersById, usersByEmail));
+                tasks.add(task);
+                taskIndexes.add(i);
+            } catch (RuntimeException e) {
+                results[i] = TaskBatchResult.failed(offset + i, e.getMessage());
+            }
+        }
+
+        for (int from = 0; from < tasks.size(); from += FLUSH_SIZE) {
+            List<Task> savedTasks = taskRepository.saveAll(tasks.subList(from, Math.min(from + FLUSH_SIZE, tasks.size())));
+            for (int i = 0; i < savedTasks.size(); i++) {
+                int index = taskIndexes.get(from + i);
+                results[index] = TaskBatchResult.created(offset + index, savedTasks.get(i).getId());
+                publishChange(savedTasks.get(i), TaskChangeType.CREATED, author);
+            }
+            // the persistence context holds one JDBC batch at a time instead of the whole request
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return Arrays.asList(results);
+    }
+
+    private <K> Set<K> collectAssigneeKeys(List<TaskDto> taskDtos, Function<User, K> key) {
+        return taskDtos.stream()
+                .filter(Objects::nonNull)
+                .flatMap(taskDto -> taskDto.getAssignees().stream())
+                .map(key)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private List<User> getAssigneesFromDto(TaskDto taskDto, Map<Long, User> usersById, Map<String, User> usersByEmail) {
+        return taskDto.getAssignees().stream()
+                .map(assignee -> {
+                    if (assignee.getId() != null) {
+                        User user = usersById.get(assignee.getId());
+                        if (user == null)
+                            throw new EntityNotFoundException("User with id=" + assignee.getId() + "not found!");
+                        return user;
+                    }
+                    if (assignee.getEmail() != null) {
+                        User user = usersByEmail.get(assignee.getEmail());
+                        if (user == null)
+                            throw new EntityNotFoundException("User with email=" + assignee.getEmail() + "not found!");
+                        return user;
+                    }
+                    throw new IllegalArgumentException("Task contains an invalid assignee! The assignee must have at least an id or email.");
+                }).distinct().collect(Collectors.toList());
+    }
+
     private List<User> getAssigneesFromDto(TaskDto taskDto) {
         return taskDto.getAssignees().stream()
                 .map(assignee -> {
@@ -225,8 +591,129 @@ public class TaskServiceImpl implements TaskService {
                 }).distinct().collect(Collectors.toList());
     }
 
+    private CommentDto createComment(Task task, CommentDto commentDto, User commentator) {
+        commentDto.setCommentator(commentator);
+        commentDto.setTask(task);
+        return commentService.createComment(commentDto);
+    }
+
+    private CommentDto deleteComment(Long taskId, Long commentId, User commentatorOrTaskAuthor) {
+        CommentDto comment = commentService.findCommentById(commentId);
+        if (!comment.getTask().getId().equals(taskId))
+            throw new EntityNotFoundException("comment with id=" + commentId + " not found in task with id=" + taskId);
+        commentService.deleteCommentById(commentId, commentatorOrTaskAuthor);
+        return comment;
+    }
+
     private Task getTaskById(Long id) {
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("task with id=" + id + " not found!"));
+        return taskRepository.findById(id).orElseThrow(() -> taskNotFound(id));
+    }
+
+    /**
+     * For a conditional write the task is refreshed from the database, not the second-level cache or the
+     * persistence context, and its row stays locked until the change commits, so the compared version is
+     * the one the change applies to.
+     */
+    private Task getTaskById(Long id, Long expectedVersion) {
+        Task task = getTaskById(id);
+        if (expectedVersion == null)
+            return task;
+        // a refresh would lose the pending changes of the persistence context, nothing is pending in a request
+        entityManager.flush();
+        entityManager.refresh(task, LockModeType.PESSIMISTIC_WRITE);
+        if (!expectedVersion.equals(task.getVersion()))
+            throw new TaskVersionMismatchException("task with id=" + id + " is at version " + task.getVersion()
+                    + ", not " + expectedVersion, task.getVersion());
+        return task;
+    }
+
+    /**
+     * The comments are not owned by the task, so their changes have to increment its version explicitly,
+     * right away and under a row lock. A forced increment leaves the second-level cache with the old
+     * version, the task is evicted once the increment is committed.
+     */
+    private Task getTaskIncrementingVersion(Long id, Long expectedVersion) {
+        Task task = getTaskById(id, expectedVersion);
+        entityManager.lock(task, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManager.getEntityManagerFactory().getCache().evict(Task.class, id);
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Recorded in the task outbox within the surrounding transaction and pushed to the subscribers
+     * once it commits, see {@link com.example.taskmanagementsystem.outbox.TaskOutboxWriter}
+     * and {@link com.example.taskmanagementsystem.events.TaskChangeStream}.
+     */
+    private void publishChange(Task task, TaskChangeType type, User changedBy, User... formerAssignees) {
+        Set<Long> userIds = notifiedUserIds(task);
+        for (User assignee : formerAssignees)
+            userIds.add(assignee.getId());
+        publishChange(task, type, changedBy, userIds);
+    }
+
+    private void publishChange(Task task, TaskChangeType type, User changedBy, Set<Long> userIds) {
+        eventPublisher.publishEvent(TaskChangeEvent.builder()
+                .taskId(task.getId())
+                .type(type)
+                .version(task.getVersion())
+                .changedBy(changedBy.getId())
+                .dateTime(LocalDateTime.now())
+                .userIds(userIds)
+                .build());
+    }
+
+    /**
+     * The author and the assignees of the task. The assignees are not loaded for this, when the write
+     * did not need them only their ids are read.
+     */
+    private Set<Long> notifiedUserIds(Task task) {
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(task.getAuthor().getId());
+        if (Hibernate.isInitialized(task.getAssignees()))
+            task.getAssignees().forEach(assignee -> userIds.add(assignee.getId()));
+        else
+            taskRepository.findAuthorIdsByIdIn(List.of(task.getId())).stream()
+                    .map(TaskAuthorIdView::getAssigneeId)
+                    .filter(Objects::nonNull)
+                    .forEach(userIds::add);
+        return userIds;
+    }
+
+    /**
+     * The task is converted, and so its assignees loaded, only when the client asked for the representation.
+     * Built before the change is published, so the notification reuses the assignees loaded for it.
+     */
+    private TaskWriteResult writeResult(Task saved, boolean withRepresentation) {
+        if (withRepresentation)
+            return TaskWriteResult.representation(taskDtoConverter.convertEntityToDto(saved));
+        return TaskWriteResult.minimal(saved.getVersion());
+    }
+
+    /**
+     * The deleting author is the author of the task.
+     */
+    private void publishDeletion(Long taskId, User author, Set<Long> assigneeIds) {
+        Set<Long> userIds = new HashSet<>(assigneeIds);
+        userIds.add(author.getId());
+        eventPublisher.publishEvent(TaskChangeEvent.builder()
+                .taskId(taskId)
+                .type(TaskChangeType.DELETED)
+                .changedBy(author.getId())
+                .dateTime(LocalDateTime.now())
+                .userIds(userIds)
+                .build());
+    }
+
+    private <T> T getTaskProjectionById(Long id, Class<T> type) {
+        return taskRepository.findProjectedById(id, type).orElseThrow(() -> taskNotFound(id));
+    }
+
+    private EntityNotFoundException taskNotFound(Long id) {
+        return new EntityNotFoundException("task with id=" + id + " not found!");
     }
 }
@@ -0,0 +1,100 @@
+package com.example.taskmanagementsystem.services.impl;
+
+import com.example.taskmanagementsystem.dto.task.TaskCount;
+import com.example.taskmanagementsystem.dto.task.TaskStatistics;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.projections.TaskCountView;
+import com.example.taskmanagementsystem.services.TaskStatisticsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the tasks with {@code GROUP BY} queries, no task is loaded.
+ * <p>
+ * The statistics of all tasks read the whole table, so they are kept for a few seconds when
+ * {@code statistics.cache-ttl-seconds} is positive: dashboards polling them share one count,
+ * concurrent requests of an expired count wait for the one computing it.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Service
+@Primary
+@Observed(name = "service.calls")
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+
+    private static final String ALL_TASKS = "all";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final Cache<String, TaskStatistics> cache;
+
+    public TaskStatisticsServiceImpl(@Value("${statistics.cache-ttl-seconds:5}") long ttlSeconds) {
+        this.cache = ttlSeconds > 0 ?
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build() :
+                null;
+    }
+
+    @Override
+    public TaskStatistics findTaskStatistics() {
+        if (cache == null)
+            return toStatistics(taskRepository.countByStatusAndPriority());
+        return cache.get(ALL_TASKS, key -> toStatistics(taskRepository.countByStatusAndPriority()));
+    }
+
+    @Override
+    public TaskStatistics findTaskStatisticsByAuthor(User author) {
+        return toStatistics(taskRepository.countByStatusAndPriorityByAuthorId(author.getId()));
+    }
+
+    @Override
+    public TaskStatistics findTaskStatisticsByAssignee(User assignee) {
+        return toStatistics(taskRepository.countByStatusAndPriorityByAssigneeId(assignee.getId()));
+    }
+
+    private TaskStatistics toStatistics(List<TaskCountView> groups) {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        long[][] counts = new long[statuses.length][priorities.length];
+        for (TaskCountView group : groups) {
+            // a task without a status or priority has no place in the histograms
+            if (group.getStatus() != null && group.getPriority() != null)
+                counts[group.getStatus().ordinal()][group.getPriority().ordinal()] += group.getCount();
+        }
+
+        List<TaskCount> byStatusAndPriority = new ArrayList<>();
+        List<TaskCount> byStatus = new ArrayList<>();
+        List<TaskCount> byPriority = new ArrayList<>();
+        long[] priorityTotals = new long[priorities.length];
+        long total = 0;
+        for (TaskStatus status : statuses) {
+            long statusTotal = 0;
+            for (TaskPriority priority : priorities) {
+                long count = counts[status.ordinal()][priority.ordinal()];
+                byStatusAndPriority.add(new TaskCount(status, priority, count));
+                statusTotal += count;
+                priorityTotals[priority.ordinal()] += count;
+            }
+            byStatus.add(new TaskCount(status, null, statusTotal));
+            total += statusTotal;
+        }
+        for (TaskPriority priority : priorities)
+            byPriority.add(new TaskCount(null, priority, priorityTotals[priority.ordinal()]));
+
+        return new TaskStatistics(total, byStatusAndPriority, byStatus, byPriority, LocalDateTime.now());
+    }
+}
@@ -2,7 +2,9 @@ package com.example.taskmanagementsystem.services.impl;
 
 import com.example.taskmanagementsystem.models.User;
 import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.PrincipalCache;
 import com.example.taskmanagementsystem.services.UserService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -10,6 +12,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,7 @@ import java.util.Optional;
  */
 @Service
 @Primary
+@Observed(name = "service.calls")
 public class UserServiceImpl implements UserService {
 
     @Autowired
@@ -27,6 +31,9 @@ public class UserServiceImpl implements UserService {
     @Autowired @Lazy
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     public List<User> findAllUsers() {
         return userRepository.findAll();
@@ -44,12 +51,23 @@ public class UserServiceImpl implements UserService {
                 () -> new EntityNotFoundException("User with id=" + id + "not found!"));
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : userRepository.findAllByIdIn(ids);
+    }
+
+    @Override
+    public List<User> findAllByEmails(Collection<String> emails) {
+        return emails.isEmpty() ? List.of() : userRepository.findAllByEmailIn(emails);
+    }
+
     @Override
     public User findByEmailAndPassword(String email, String password) {
         Optional<User> user = userRepository.findByEmail(email);
 
         if (user.isPresent()){
             if (passwordEncoder.matches(password, user.get().getPassword())){
+                upgradePasswordEncoding(user.get(), password);
                 return user.get();
             }
         }
@@ -61,6 +79,11 @@ public class UserServiceImpl implements UserService {
         validateEmail(user.getEmail());
         validateName(user.getName());
         validatePassword(user.getName());
+
+        Optional<User> userWithEmail = userRepository.findByEmail(user.getEmail());
+        if (userWithEmail.isPresent() && !userWithEmail.get().getId().equals(user.getId()))
+            throw new IllegalArgumentException("Email " + user.getEmail() + " is taken by another user");
+
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
     }
@@ -70,7 +93,9 @@ public class UserServiceImpl implements UserService {
         validateName(name);
         User user = findByEmail(email);
         user.setName(name);
-        return userRepository.save(user);
+        user = userRepository.save(user);
+        principalCache.invalidate(email);
+        return user;
     }
 
     @Override
@@ -84,7 +109,9 @@ public class UserServiceImpl implements UserService {
 
         User user = findByEmail(email);
         user.setEmail(newEmail);
-        return userRepository.save(user);
+        user = userRepository.save(user);
+        principalCache.invalidate(email);
+        return user;
     }
 
     @Override
@@ -93,9 +120,20 @@ public class UserServiceImpl implements UserService {
         User user = findByEmail(email);
         user.setPassword(password);
         saveUser(user);
+        principalCache.invalidate(email);
         return user;
     }
 
+    /**
+     * Re-hashes a password stored with a weaker encoding than configured, while the raw password is at hand.
+     */
+    private void upgradePasswordEncoding(User user, String password) {
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+        }
+    }
+
     private void validateEmail(String email) {
         String emailRegex = "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
         if (!email.matches(emailRegex)) {
@@ -0,0 +1,17 @@
+-- Indexes for the repository queries; PostgreSQL does not index foreign keys on its own.
+-- IF NOT EXISTS: the comments index may already have been created by the schema update.
+
+-- TaskRepository.findAllByAuthor, findPageAfter(authorId)
+CREATE INDEX IF NOT EXISTS idx_tasks_author_id ON tasks (author_id);
+
+-- TaskRepository.findPageAfter(status, priority)
+CREATE INDEX IF NOT EXISTS idx_tasks_status_priority ON tasks (status, priority);
+
+-- TaskRepository.findAllByAssigneesContains, findPageAfter(assigneeId)
+CREATE INDEX IF NOT EXISTS idx_task_assignees_assignee_id_task_id ON task_assignees (assignee_id, task_id);
+
+-- batch loading of Task.assignees; an assignee is listed at most once per task
+ALTER TABLE task_assignees ADD CONSTRAINT uk_task_assignees_task_id_assignee_id UNIQUE (task_id, assignee_id);
+
+-- CommentRepository.deleteAllByTask, findPageAfter, findPageBefore and batch loading of Task.comments
+CREATE INDEX IF NOT EXISTS idx_comments_task_date_time_id ON comments (task_id, date_time, id);
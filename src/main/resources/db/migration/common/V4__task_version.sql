@@ -0,0 +1,2 @@
+-- Optimistic locking version of a task, also the source of its ETag.
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
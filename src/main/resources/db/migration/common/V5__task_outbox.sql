@@ -0,0 +1,13 @@
+-- Changes of tasks and their comments, written in the transaction of the change and
+-- deleted by TaskOutboxRelay once published. No foreign key: a deletion is also a change.
+CREATE TABLE task_outbox (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    task_id    BIGINT        NOT NULL,
+    type       VARCHAR(32)   NOT NULL,
+    payload    VARCHAR(2000) NOT NULL,
+    created_at TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- TaskOutboxRelay: the oldest pending change of every task in a batch
+CREATE INDEX idx_task_outbox_task_id_id ON task_outbox (task_id, id);
@@ -0,0 +1,2 @@
+-- Task descriptions are plain text columns, as on PostgreSQL; H2 is searched by InMemoryTaskSearchIndex.
+ALTER TABLE tasks ALTER COLUMN description SET DATA TYPE CHARACTER VARYING;
@@ -0,0 +1,38 @@
+-- Schema as it was generated by Hibernate before the migrations were introduced.
+-- Existing databases are baselined at this version and start with the next migration.
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL,
+    email    VARCHAR(255) NOT NULL UNIQUE,
+    name     VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id          BIGINT NOT NULL,
+    title       VARCHAR(255),
+    description OID,
+    status      VARCHAR(255) CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    priority    VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    author_id   BIGINT REFERENCES users,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task_assignees (
+    task_id     BIGINT NOT NULL REFERENCES tasks,
+    assignee_id BIGINT NOT NULL REFERENCES users
+);
+
+CREATE TABLE comments (
+    id             BIGINT       NOT NULL,
+    text           VARCHAR(255) NOT NULL,
+    date_time      TIMESTAMP(6) NOT NULL,
+    commentator_id BIGINT REFERENCES users,
+    task_id        BIGINT REFERENCES tasks,
+    PRIMARY KEY (id)
+);
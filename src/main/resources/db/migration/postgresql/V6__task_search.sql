@@ -0,0 +1,16 @@
+-- Task descriptions move from large objects to a text column, which full-text search can index.
+ALTER TABLE tasks ADD COLUMN description_text TEXT;
+UPDATE tasks SET description_text = convert_from(lo_get(description), 'UTF8') WHERE description IS NOT NULL;
+SELECT lo_unlink(description) FROM tasks WHERE description IS NOT NULL;
+ALTER TABLE tasks DROP COLUMN description;
+ALTER TABLE tasks RENAME COLUMN description_text TO description;
+
+-- PostgresTaskSearchIndex: the title is weighted A, the description B, the comments keep the default D.
+-- The 'simple' configuration neither stems nor drops stop words, whatever the language of a task.
+ALTER TABLE tasks ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+ALTER TABLE comments ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', text)) STORED;
+CREATE INDEX idx_comments_search_vector ON comments USING GIN (search_vector);
@@ -0,0 +1,156 @@
+package com.example.taskmanagementsystem.benchmark;
+
+import com.example.taskmanagementsystem.TaskManagementSystemApplication;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mixed read and write load on the task, task field and user endpoints over a synthetic dataset,
+ * reported per endpoint. Every client acts as its own user and changes only the tasks it authored,
+ * the same seed gives the same dataset and the same requests.
+ * <p>
+ * Runs against an in-memory H2 database by default. Point it at a local PostgreSQL with
+ * {@code -Dload.datasource.url=jdbc:postgresql://localhost:5432/taskmanagement -Dload.datasource.username=postgres
+ * -Dload.datasource.password=postgres}; the dataset is deleted afterwards. The size of the run is set with
+ * {@code -Dload.users}, {@code -Dload.tasks}, {@code -Dload.clients}, {@code -Dload.requests-per-client}
+ * and {@code -Dload.seed}: {@code mvn test -Pbenchmark -Dtest=EndpointLoadBenchmarkTest -Dload.tasks=20000}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+class EndpointLoadBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int TASKS = Integer.getInteger("load.tasks", 2_000);
+    private static final int CLIENTS = Math.min(Integer.getInteger("load.clients", 20), USERS);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests-per-client", 200);
+    private static final long SEED = Long.getLong("load.seed", 42);
+
+    private final LoadDriver loadDriver = new LoadDriver();
+
+    @Test
+    void endpoints_MixedReadsAndWrites() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + System.getProperty("load.datasource.url",
+                                "jdbc:h2:mem:load-endpoints;DB_CLOSE_DELAY=-1"),
+                        "--spring.datasource.username=" + System.getProperty("load.datasource.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("load.datasource.password", ""))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(context.getBean(UserRepository.class),
+                    context.getBean(TaskRepository.class), context.getBean(CommentRepository.class),
+                    context.getBean(TransactionTemplate.class), SEED);
+
+            long seeding = System.nanoTime();
+            SyntheticDataGenerator.Dataset dataset = generator.generate("load", USERS, TASKS);
+            System.out.printf("seeded %d users, %d tasks and %d comments in %d ms%n", dataset.users().size(),
+                    dataset.taskIds().size(), dataset.comments(), (System.nanoTime() - seeding) / 1_000_000);
+            try {
+                JwtProvider jwtProvider = context.getBean(JwtProvider.class);
+                List<String> tokens = dataset.users().stream()
+                        .map(user -> jwtProvider.generateToken(user.getEmail()))
+                        .toList();
+
+                int warmUpRequests = Math.max(1, REQUESTS_PER_CLIENT / 10);
+                loadDriver.runScenario(CLIENTS, warmUpRequests, scenario(port, dataset, tokens, warmUpRequests, SEED - 1));
+                LoadDriver.Report report = loadDriver.runScenario(CLIENTS, REQUESTS_PER_CLIENT,
+                        scenario(port, dataset, tokens, REQUESTS_PER_CLIENT, SEED));
+
+                System.out.println(report.describe());
+                assertEquals(0, report.total().errors());
+            } finally {
+                generator.delete(dataset);
+            }
+        }
+    }
+
+    /**
+     * Three requests in four read, the writes change a task of the client's own or its name.
+     */
+    private static IntFunction<LoadDriver.Call> scenario(int port, SyntheticDataGenerator.Dataset dataset,
+                                                        List<String> tokens, int requestsPerClient, long seed) {
+        String base = "http://localhost:" + port;
+        return n -> {
+            SplittableRandom random = new SplittableRandom(seed * 1_000_003 + n);
+            int client = n / requestsPerClient;
+            User user = dataset.users().get(client);
+            Long anyTask = dataset.taskIds().get(random.nextInt(dataset.taskIds().size()));
+            List<Long> ownTasks = dataset.taskIdsByAuthor().getOrDefault(user.getId(), List.of());
+            Long ownTask = ownTasks.isEmpty() ? null : ownTasks.get(random.nextInt(ownTasks.size()));
+
+            int dice = random.nextInt(100);
+            if (ownTask == null && dice >= 75 && dice < 98)
+                dice = 0;
+            HttpRequest.Builder request;
+            String endpoint;
+            if (dice < 20) {
+                endpoint = "GET /api/tasks/{id}";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + anyTask)).GET();
+            } else if (dice < 30) {
+                endpoint = "GET /api/tasks/";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/?size=20&status-value="
+                        + (1 + random.nextInt(3)))).GET();
+            } else if (dice < 40) {
+                endpoint = "GET /api/tasks/{id}/comments/page";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + anyTask + "/comments/page?size=20")).GET();
+            } else if (dice < 45) {
+                endpoint = "GET /api/tasks/{id}/assignees";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + anyTask + "/assignees")).GET();
+            } else if (dice < 55) {
+                endpoint = "GET /api/users/me/assigned-tasks";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/users/me/assigned-tasks")).GET();
+            } else if (dice < 65) {
+                endpoint = "GET /api/users/me/created-tasks";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/users/me/created-tasks")).GET();
+            } else if (dice < 75) {
+                endpoint = "GET /api/users/me";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/users/me")).GET();
+            } else if (dice < 83) {
+                endpoint = "PUT /api/tasks/{id}/status";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + ownTask + "/status?status-value="
+                        + (1 + random.nextInt(3)))).PUT(HttpRequest.BodyPublishers.noBody());
+            } else if (dice < 88) {
+                endpoint = "PUT /api/tasks/{id}/priority";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + ownTask + "/priority?priority-value="
+                        + (1 + random.nextInt(3)))).PUT(HttpRequest.BodyPublishers.noBody());
+            } else if (dice < 93) {
+                endpoint = "POST /api/tasks/{id}/comments";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + ownTask + "/comments?comment-text="
+                        + URLEncoder.encode("Load comment " + n, StandardCharsets.UTF_8)))
+                        .POST(HttpRequest.BodyPublishers.noBody());
+            } else if (dice < 98) {
+                endpoint = "PATCH /api/tasks/{id}";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/" + ownTask + "?include-comments=false"))
+                        .header("Content-Type", "application/merge-patch+json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"title\":\"Load title " + n + "\"}"));
+            } else {
+                endpoint = "PUT /api/users/me/name";
+                request = HttpRequest.newBuilder(URI.create(base + "/api/users/me/name?name=load" + n))
+                        .PUT(HttpRequest.BodyPublishers.noBody());
+            }
+            return new LoadDriver.Call(endpoint, request
+                    .header("Authorization", "Bearer " + tokens.get(client))
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.taskmanagementsystem.benchmark;
+
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput of bulk task and comment creation with JDBC batching (possible since the ids
+ * come from pooled sequences) against one statement per row (what IDENTITY ids forced).
+ * Run with {@code mvn test -Pbenchmark}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+class InsertThroughputBenchmarkTest {
+
+    private static final int TASKS = 2_000;
+    private static final int COMMENTS_PER_TASK = 5;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertThroughput_BatchedAgainstRowByRow() {
+        List<User> users = userRepository.saveAll(List.of(
+                User.builder().name("author").email("bench-author@mail.test").password("****").build(),
+                User.builder().name("assignee").email("bench-assignee@mail.test").password("****").build()));
+        try {
+            // warm-up
+            measure(users, 1);
+            measure(users, 50);
+
+            Result rowByRow = measure(users, 1);
+            Result batched = measure(users, 50);
+
+            System.out.println(rowByRow.describe("row by row (batch size 1)"));
+            System.out.println(batched.describe("batched (batch size 50)"));
+
+            assertTrue(batched.statements() < rowByRow.statements(),
+                    "batching must reduce the number of JDBC statements");
+        } finally {
+            userRepository.deleteAll(users);
+        }
+    }
+
+    private Result measure(List<User> users, int batchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long taskNanos = 0;
+        long commentNanos = 0;
+        long statements = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            long[] nanos = transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+                long start = System.nanoTime();
+                List<Task> tasks = taskRepository.saveAll(createTasks(users));
+                entityManager.flush();
+                long tasksDone = System.nanoTime();
+                commentRepository.saveAll(createComments(tasks, users));
+                entityManager.flush();
+                long commentsDone = System.nanoTime();
+
+                status.setRollbackOnly();
+                return new long[]{tasksDone - start, commentsDone - tasksDone};
+            });
+            taskNanos += nanos[0];
+            commentNanos += nanos[1];
+            statements += statistics.getPrepareStatementCount();
+        }
+        return new Result(taskNanos / ROUNDS, commentNanos / ROUNDS, statements / ROUNDS);
+    }
+
+    private List<Task> createTasks(List<User> users) {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .title("Benchmark task " + i)
+                    .description("benchmark")
+                    .status(TaskStatus.PENDING)
+                    .priority(TaskPriority.LOW)
+                    .author(users.get(0))
+                    .assignees(new ArrayList<>(List.of(users.get(1))))
+                    .comments(new ArrayList<>())
+                    .build());
+        }
+        return tasks;
+    }
+
+    private List<Comment> createComments(List<Task> tasks, List<User> users) {
+        List<Comment> comments = new ArrayList<>(tasks.size() * COMMENTS_PER_TASK);
+        for (Task task : tasks) {
+            for (int i = 0; i < COMMENTS_PER_TASK; i++) {
+                comments.add(Comment.builder()
+                        .task(task)
+                        .text("Benchmark comment " + i)
+                        .dateTime(LocalDateTime.now())
+                        .commentator(users.get(i % users.size()))
+                        .build());
+            }
+        }
+        return comments;
+    }
+
+    private record Result(long taskNanos, long commentNanos, long statements) {
+        String describe(String mode) {
+            return String.format("%-26s tasks: %8.0f rows/s, comments: %8.0f rows/s, prepared statements: %d",
+                    mode,
+                    TASKS / (taskNanos / 1e9),
+                    TASKS * COMMENTS_PER_TASK / (commentNanos / 1e9),
+                    statements);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.taskmanagementsystem.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Closed-loop HTTP load: a fixed number of clients, each sending its next request as soon as
+ * the previous one is answered. Reports throughput and latency percentiles, in total and per endpoint.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+final class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * @param clients concurrent clients
+     * @param requestsPerClient requests each client sends
+     * @param requests the n-th request of the run
+     */
+    Result run(int clients, int requestsPerClient, IntFunction<HttpRequest> requests) throws InterruptedException {
+        return runScenario(clients, requestsPerClient, n -> new Call("all", requests.apply(n))).total();
+    }
+
+    /**
+     * Like {@link #run}, with the results of every endpoint apart. Client {@code c} sends the requests
+     * {@code c * requestsPerClient} to {@code (c + 1) * requestsPerClient - 1}, in order.
+     *
+     * @param calls the n-th request of the run, with the name of its endpoint
+     */
+    Report runScenario(int clients, int requestsPerClient, IntFunction<Call> calls) throws InterruptedException {
+        long[] latencies = new long[clients * requestsPerClient];
+        String[] endpoints = new String[latencies.length];
+        boolean[] failed = new boolean[latencies.length];
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch done = new CountDownLatch(clients);
+        long start = System.nanoTime();
+        for (int client = 0; client < clients; client++) {
+            int first = client * requestsPerClient;
+            executor.execute(() -> {
+                try {
+                    for (int n = first; n < first + requestsPerClient; n++) {
+                        Call call = calls.apply(n);
+                        endpoints[n] = call.endpoint();
+                        long sent = System.nanoTime();
+                        try {
+                            int status = httpClient.send(call.request(), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode();
+                            failed[n] = status >= 400;
+                        } catch (Exception e) {
+                            failed[n] = true;
+                        }
+                        latencies[n] = System.nanoTime() - sent;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        executor.shutdown();
+
+        Map<String, List<Integer>> requestsByEndpoint = new TreeMap<>();
+        for (int n = 0; n < endpoints.length; n++)
+            requestsByEndpoint.computeIfAbsent(endpoints[n], endpoint -> new ArrayList<>()).add(n);
+        Map<String, Result> byEndpoint = new LinkedHashMap<>();
+        requestsByEndpoint.forEach((endpoint, requests) ->
+                byEndpoint.put(endpoint, result(requests.stream().mapToInt(Integer::intValue).toArray(),
+                        latencies, failed, elapsed)));
+        return new Report(result(IntStream.range(0, latencies.length).toArray(), latencies, failed, elapsed),
+                byEndpoint);
+    }
+
+    private static Result result(int[] requests, long[] latencies, boolean[] failed, Duration elapsed) {
+        long[] sorted = new long[requests.length];
+        int errors = 0;
+        for (int i = 0; i < requests.length; i++) {
+            sorted[i] = latencies[requests[i]];
+            if (failed[requests[i]])
+                errors++;
+        }
+        Arrays.sort(sorted);
+        return new Result(sorted.length, errors, elapsed,
+                Duration.ofNanos(percentile(sorted, 50)), Duration.ofNanos(percentile(sorted, 99)));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    record Report(Result total, Map<String, Result> byEndpoint) {
+
+        String describe() {
+            int width = byEndpoint.keySet().stream().mapToInt(String::length).max().orElse(0);
+            StringBuilder description = new StringBuilder();
+            byEndpoint.forEach((endpoint, result) -> description.append(result.describe(endpoint, width)).append('\n'));
+            return description.append(total.describe("total", width)).toString();
+        }
+    }
+
+    /**
+     * @param elapsed the time of the whole run, the throughput of an endpoint is its share of the run
+     */
+    record Result(int requests, int errors, Duration elapsed, Duration p50, Duration p99) {
+
+        double throughput() {
+            return requests * 1_000_000_000.0 / elapsed.toNanos();
+        }
+
+        String describe(String name) {
+            return describe(name, 18);
+        }
+
+        String describe(String name, int width) {
+            return String.format("%-" + width + "s %6d requests, %4d errors, %8.1f req/s, p50 %6.2f ms, p99 %7.2f ms",
+                    name, requests, errors, throughput(), p50.toNanos() / 1e6, p99.toNanos() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.taskmanagementsystem.benchmark;
+
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Seeds users, tasks and comments through the repositories. The same seed gives the same dataset.
+ * <p>
+ * Like in a real organisation, a few users author and get assigned most of the tasks, most tasks have
+ * one or two assignees and a handful of comments, and a few tasks are discussed at length.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+final class SyntheticDataGenerator {
+
+    private static final int TASKS_PER_TRANSACTION = 500;
+    /**
+     * Chances of a task to have 0, 1, 2, 3 or 4 assignees.
+     */
+    private static final double[] ASSIGNEE_COUNTS = {0.15, 0.45, 0.25, 0.10, 0.05};
+    private static final double[] STATUSES = {0.40, 0.35, 0.25};
+    private static final double[] PRIORITIES = {0.50, 0.35, 0.15};
+    private static final double MEAN_COMMENTS = 3;
+    private static final double DISCUSSED_TASKS = 0.02;
+    private static final int MAX_DISCUSSION_COMMENTS = 200;
+    private static final String[] WORDS = {
+            "report", "release", "customer", "invoice", "deploy", "review", "budget", "meeting", "design",
+            "database", "migration", "backup", "onboarding", "contract", "audit", "roadmap", "survey",
+            "dashboard", "incident", "training", "vendor", "schedule", "prototype", "feedback"};
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random;
+
+    SyntheticDataGenerator(UserRepository userRepository, TaskRepository taskRepository,
+                           CommentRepository commentRepository, TransactionTemplate transactionTemplate, long seed) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param prefix keeps the emails of the users apart from the ones of other datasets
+     */
+    Dataset generate(String prefix, int users, int tasks) {
+        List<User> generatedUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++)
+            generatedUsers.add(User.builder()
+                    .name(prefix + " user " + i)
+                    .email(prefix + "-user-" + i + "@mail.test")
+                    .password("****")
+                    .build());
+        generatedUsers = userRepository.saveAll(generatedUsers);
+
+        Map<Long, List<Long>> taskIdsByAuthor = new HashMap<>();
+        List<Long> taskIds = new ArrayList<>();
+        int comments = 0;
+        for (int from = 0; from < tasks; from += TASKS_PER_TRANSACTION) {
+            List<Task> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(tasks, from + TASKS_PER_TRANSACTION); i++)
+                chunk.add(task(i, generatedUsers));
+            comments += transactionTemplate.execute(status -> {
+                List<Task> saved = taskRepository.saveAll(chunk);
+                List<Comment> chunkComments = new ArrayList<>();
+                saved.forEach(task -> chunkComments.addAll(comments(task, users(task))));
+                commentRepository.saveAll(chunkComments);
+                return chunkComments.size();
+            });
+            for (Task task : chunk) {
+                taskIds.add(task.getId());
+                taskIdsByAuthor.computeIfAbsent(task.getAuthor().getId(), author -> new ArrayList<>()).add(task.getId());
+            }
+        }
+        return new Dataset(generatedUsers, taskIds, taskIdsByAuthor, comments);
+    }
+
+    /**
+     * Deletes the tasks of the dataset with their comments, then its users.
+     */
+    void delete(Dataset dataset) {
+        for (int from = 0; from < dataset.taskIds().size(); from += TASKS_PER_TRANSACTION) {
+            List<Long> chunk = dataset.taskIds().subList(from, Math.min(dataset.taskIds().size(), from + TASKS_PER_TRANSACTION));
+            transactionTemplate.executeWithoutResult(status -> {
+                commentRepository.deleteAllByTaskIdIn(chunk);
+                taskRepository.deleteAllByIdIn(chunk);
+            });
+        }
+        userRepository.deleteAll(dataset.users());
+    }
+
+    private Task task(int number, List<User> users) {
+        Set<User> assignees = new LinkedHashSet<>();
+        int assigneeCount = Math.min(pick(ASSIGNEE_COUNTS), users.size());
+        while (assignees.size() < assigneeCount)
+            assignees.add(skewedPick(users));
+        return Task.builder()
+                .title(sentence(3) + " #" + number)
+                .description(sentence(5 + random.nextInt(30)))
+                .status(TaskStatus.values()[pick(STATUSES)])
+                .priority(TaskPriority.values()[pick(PRIORITIES)])
+                .author(skewedPick(users))
+                .assignees(new ArrayList<>(assignees))
+                .comments(new ArrayList<>())
+                .build();
+    }
+
+    private List<Comment> comments(Task task, List<User> participants) {
+        int count = random.nextDouble() < DISCUSSED_TASKS
+                ? MAX_DISCUSSION_COMMENTS / 4 + random.nextInt(MAX_DISCUSSION_COMMENTS * 3 / 4)
+                : (int) (-MEAN_COMMENTS * Math.log(1 - random.nextDouble()));
+        LocalDateTime dateTime = START.plusMinutes(random.nextInt(60 * 24 * 180));
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dateTime = dateTime.plusMinutes(1 + random.nextInt(60 * 24));
+            comments.add(Comment.builder()
+                    .text(sentence(3 + random.nextInt(25)))
+                    .dateTime(dateTime)
+                    .commentator(participants.get(random.nextInt(participants.size())))
+                    .task(task)
+                    .build());
+        }
+        return comments;
+    }
+
+    private static List<User> users(Task task) {
+        List<User> users = new ArrayList<>(task.getAssignees());
+        users.add(task.getAuthor());
+        return users;
+    }
+
+    /**
+     * A user picked with a chance falling with its index, the first users being the busiest.
+     */
+    private User skewedPick(List<User> users) {
+        double uniform = random.nextDouble();
+        return users.get((int) (users.size() * uniform * uniform));
+    }
+
+    private int pick(double[] chances) {
+        double uniform = random.nextDouble();
+        for (int i = 0; i < chances.length - 1; i++) {
+            uniform -= chances[i];
+            if (uniform < 0)
+                return i;
+        }
+        return chances.length - 1;
+    }
+
+    private String sentence(int words) {
+        StringJoiner sentence = new StringJoiner(" ");
+        for (int i = 0; i < words; i++)
+            sentence.add(WORDS[random.nextInt(WORDS.length)]);
+        String text = sentence.toString();
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    record Dataset(List<User> users, List<Long> taskIds, Map<Long, List<Long>> taskIdsByAuthor, int comments) {
+    }
+}
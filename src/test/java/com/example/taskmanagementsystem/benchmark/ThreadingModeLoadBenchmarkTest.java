@@ -0,0 +1,127 @@
+package com.example.taskmanagementsystem.benchmark;
+
+import com.example.taskmanagementsystem.TaskManagementSystemApplication;
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.monitoring.VirtualThreadPinningMonitor;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load on the task read endpoints with requests served by Tomcat's platform-thread pool and by
+ * virtual threads ({@code spring.threads.virtual.enabled}). The virtual run also prints how often a carrier
+ * thread was pinned, as counted by {@link VirtualThreadPinningMonitor}.
+ * <p>
+ * Against the in-memory H2 database a request barely blocks, so the numbers mostly show the
+ * scheduling overhead. Point the run at PostgreSQL to see the effect of waiting on JDBC:
+ * {@code mvn test -Pbenchmark -Dload.datasource.url=jdbc:postgresql://localhost:5432/taskmanagement
+ * -Dload.datasource.username=postgres -Dload.datasource.password=postgres}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+class ThreadingModeLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests-per-client", 10);
+    private static final int TASKS = 200;
+
+    private final LoadDriver loadDriver = new LoadDriver();
+
+    @Test
+    void taskEndpoints_PlatformAgainstVirtualThreads() throws Exception {
+        LoadDriver.Result platform = measure(false);
+        System.out.println(platform.describe("platform threads"));
+        assertEquals(0, platform.errors());
+
+        LoadDriver.Result virtual = measure(true);
+        System.out.println(virtual.describe("virtual threads"));
+        assertEquals(0, virtual.errors());
+    }
+
+    private LoadDriver.Result measure(boolean virtualThreads) throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=" + System.getProperty("load.datasource.url",
+                                "jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1"),
+                        "--spring.datasource.username=" + System.getProperty("load.datasource.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("load.datasource.password", ""))) {
+            // the pinning monitor runs only when the requests really are served by virtual threads
+            assertEquals(virtualThreads, context.getBeanProvider(VirtualThreadPinningMonitor.class).getIfAvailable() != null);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+            User user = userRepository.save(User.builder()
+                    .name("load").email("load-" + mode + "@mail.test").password("****").build());
+            List<Long> taskIds = seedTasks(taskRepository, user);
+            try {
+                IntFunction<HttpRequest> requests = taskRequests(port,
+                        context.getBean(JwtProvider.class).generateToken(user.getEmail()), taskIds);
+                loadDriver.run(20, 25, requests);
+                LoadDriver.Result result = loadDriver.run(CLIENTS, REQUESTS_PER_CLIENT, requests);
+                if (virtualThreads)
+                    System.out.println("pinned carriers    " + (long) context.getBean(MeterRegistry.class)
+                            .find("jvm.threads.virtual.pinned").counters().stream().mapToDouble(Counter::count).sum());
+                return result;
+            } finally {
+                transactionTemplate.executeWithoutResult(status -> taskRepository.deleteAllByIdIn(taskIds));
+                userRepository.delete(user);
+            }
+        }
+    }
+
+    private static List<Long> seedTasks(TaskRepository taskRepository, User user) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .title("Load task " + i)
+                    .description("load task " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                    .author(user)
+                    .assignees(new ArrayList<>(List.of(user)))
+                    .comments(new ArrayList<>())
+                    .build());
+        }
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    /**
+     * Cycles through a task by id, the first page of tasks and the caller's assigned tasks.
+     */
+    private static IntFunction<HttpRequest> taskRequests(int port, String token, List<Long> taskIds) {
+        String base = "http://localhost:" + port;
+        return n -> {
+            String path = switch (n % 3) {
+                case 0 -> "/api/tasks/" + taskIds.get(n % taskIds.size());
+                case 1 -> "/api/tasks/?size=20";
+                default -> "/api/users/me/assigned-tasks";
+            };
+            return HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        };
+    }
+}
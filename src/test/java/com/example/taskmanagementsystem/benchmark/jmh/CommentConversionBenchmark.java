@@ -0,0 +1,42 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import com.example.taskmanagementsystem.dto.comment.CommentDto;
+import com.example.taskmanagementsystem.dto.comment.CommentDtoConverter;
+import com.example.taskmanagementsystem.dto.comment.CommentResponse;
+import com.example.taskmanagementsystem.models.Comment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a single comment, done once per comment of every task response.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommentConversionBenchmark {
+
+    private CommentDtoConverter commentDtoConverter;
+    private Comment comment;
+    private CommentDto commentDto;
+
+    @Setup
+    public void setUp() {
+        commentDtoConverter = TaskFixtures.commentDtoConverter();
+        comment = TaskFixtures.task(1).getComments().get(0);
+        commentDto = commentDtoConverter.convertEntityToDto(comment);
+    }
+
+    @Benchmark
+    public CommentDto convertEntityToDto() {
+        return commentDtoConverter.convertEntityToDto(comment);
+    }
+
+    @Benchmark
+    public CommentResponse convertDtoToResponse() {
+        return commentDtoConverter.convertDtoToResponse(commentDto);
+    }
+}
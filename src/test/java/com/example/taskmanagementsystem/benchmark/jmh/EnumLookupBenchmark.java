@@ -0,0 +1,39 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of a status or a priority by its value, done for every request body and every value deserialized.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+
+    /**
+     * Cycles through the values, so the lookup cannot be folded into a constant.
+     */
+    private int next;
+
+    private int nextValue() {
+        next = next == 3 ? 1 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    public TaskStatus taskStatusGetByValue() {
+        return TaskStatus.getByValue(nextValue());
+    }
+
+    @Benchmark
+    public TaskPriority taskPriorityGetByValue() {
+        return TaskPriority.getByValue(nextValue());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the JMH benchmarks of this package in forked JVMs and writes their results as JSON, by default to
+ * {@code target/jmh-result.json}, so the results of two commits can be compared.
+ * Run with {@code mvn test -Pbenchmark -Dtest=JmhBenchmarkTest}, optionally with
+ * {@code -Djmh.include=<regex>}, {@code -Djmh.forks}, {@code -Djmh.warmup-iterations},
+ * {@code -Djmh.iterations} and {@code -Djmh.result=<file>}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", JmhBenchmarkTest.class.getPackageName() + "\\..*Benchmark"))
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmup-iterations", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .shouldFailOnError(true)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty(), "no benchmark matched " + options.getIncludes());
+        assertTrue(Files.exists(result));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import com.example.taskmanagementsystem.dto.task.TaskDto;
+import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.example.taskmanagementsystem.models.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a task to its DTO and of the DTO to the response, which converts and sorts the comments.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskConversionBenchmark {
+
+    @Param({"0", "10", "1000", "10000"})
+    public int comments;
+
+    private TaskDtoConverter taskDtoConverter;
+    private Task task;
+    private TaskDto taskDto;
+
+    @Setup
+    public void setUp() {
+        taskDtoConverter = TaskFixtures.taskDtoConverter();
+        task = TaskFixtures.task(comments);
+        taskDto = taskDtoConverter.convertEntityToDto(task);
+    }
+
+    @Benchmark
+    public TaskDto convertEntityToDto() {
+        return taskDtoConverter.convertEntityToDto(task);
+    }
+
+    @Benchmark
+    public TaskResponse convertDtoToResponse() {
+        return taskDtoConverter.convertDtoToResponse(taskDto);
+    }
+
+    @Benchmark
+    public TaskResponse convertDtoToResponseWithoutComments() {
+        return taskDtoConverter.convertDtoToResponse(taskDto, false);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import com.example.taskmanagementsystem.dto.comment.CommentDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.user.UserResponseConverter;
+import com.example.taskmanagementsystem.models.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tasks and converters of the benchmarks, built without a Spring context.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+final class TaskFixtures {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private TaskFixtures() {
+    }
+
+    static TaskDtoConverter taskDtoConverter() {
+        TaskDtoConverter taskDtoConverter = new TaskDtoConverter();
+        ReflectionTestUtils.setField(taskDtoConverter, "userResponseConverter", new UserResponseConverter());
+        ReflectionTestUtils.setField(taskDtoConverter, "commentDtoConverter", commentDtoConverter());
+        return taskDtoConverter;
+    }
+
+    static CommentDtoConverter commentDtoConverter() {
+        CommentDtoConverter commentDtoConverter = new CommentDtoConverter();
+        ReflectionTestUtils.setField(commentDtoConverter, "userResponseConverter", new UserResponseConverter());
+        return commentDtoConverter;
+    }
+
+    /**
+     * The object mapper Spring Boot configures for the controllers.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("user" + id)
+                .email("user" + id + "@mail.test")
+                .password("****")
+                .build();
+    }
+
+    /**
+     * A task with three assignees and {@code comments} comments in shuffled order, which the conversion sorts.
+     */
+    static Task task(int comments) {
+        User author = user(1);
+        List<User> users = List.of(author, user(2), user(3), user(4));
+        Task task = Task.builder()
+                .id(1L)
+                .version(0L)
+                .title("Prepare the quarterly report")
+                .description("Collect the numbers of every team and put them into the template.")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .author(author)
+                .assignees(new ArrayList<>(users.subList(1, 4)))
+                .comments(new ArrayList<>())
+                .build();
+        for (int i = 0; i < comments; i++)
+            task.getComments().add(Comment.builder()
+                    .id((long) i + 1)
+                    .text("Comment number " + i + " on the progress of the report")
+                    .dateTime(START.plusMinutes(i))
+                    .commentator(users.get(i % users.size()))
+                    .task(task)
+                    .build());
+        Collections.shuffle(task.getComments(), new Random(comments));
+        return task;
+    }
+}
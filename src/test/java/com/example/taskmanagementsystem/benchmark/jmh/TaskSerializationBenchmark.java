@@ -0,0 +1,40 @@
+package com.example.taskmanagementsystem.benchmark.jmh;
+
+import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a task response: kebab-case names, status and priority as objects, dated comments.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSerializationBenchmark {
+
+    @Param({"0", "10", "1000", "10000"})
+    public int comments;
+
+    private ObjectWriter writer;
+    private TaskResponse taskResponse;
+
+    @Setup
+    public void setUp() {
+        writer = TaskFixtures.objectMapper().writerFor(TaskResponse.class);
+        TaskDtoConverter taskDtoConverter = TaskFixtures.taskDtoConverter();
+        taskResponse = taskDtoConverter.convertDtoToResponse(
+                taskDtoConverter.convertEntityToDto(TaskFixtures.task(comments)));
+    }
+
+    @Benchmark
+    public byte[] writeTaskResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(taskResponse);
+    }
+}
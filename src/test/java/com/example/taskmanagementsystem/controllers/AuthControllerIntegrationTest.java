@@ -15,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -154,7 +155,31 @@ class AuthControllerIntegrationTest {
 
         AuthResponse response = objectMapper.readValue(responseContent, AuthResponse.class);
 
-        assertEquals(authRequest.getEmail(), jwtProvider.getEmailFromToken(response.getToken()));
+        assertEquals(authRequest.getEmail(), jwtProvider.getEmailFromValidToken(response.getToken()));
+    }
+
+    @Test
+    void auth_WhenPasswordHashedWithLowerStrength_ShouldUpgradeStoredHash() throws Exception {
+        // Arrange
+        AuthRequest authRequest = new AuthRequest("test@email.test", "TestPassword");
+        User user = userRepository.save(
+                User.builder()
+                        .email(authRequest.getEmail())
+                        .password(new BCryptPasswordEncoder(4).encode(authRequest.getPassword()))
+                        .name("maksim")
+                        .build()
+        );
+
+        // Act
+        mockMvc.perform(post("/auth")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isOk());
+
+        // Assert
+        String storedHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertFalse(passwordEncoder.upgradeEncoding(storedHash));
+        assertTrue(passwordEncoder.matches(authRequest.getPassword(), storedHash));
     }
 
     @Test
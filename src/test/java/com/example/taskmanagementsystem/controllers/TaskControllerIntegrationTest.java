@@ -1,6 +1,8 @@
 package com.example.taskmanagementsystem.controllers;
 
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskPageResponse;
 import com.example.taskmanagementsystem.dto.task.TaskRequest;
 import com.example.taskmanagementsystem.dto.task.TaskResponse;
 import com.example.taskmanagementsystem.models.*;
@@ -22,6 +24,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +32,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.example.taskmanagementsystem.monitoring.SqlStatementResultMatchers.sqlStatements;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -173,7 +177,7 @@ class TaskControllerIntegrationTest {
     }
 
     @Test
-    void getAllTasks_ShouldReturnListOfTaskResponses() throws Exception {
+    void getAllTasks_ShouldReturnPageOfTaskResponses() throws Exception {
         // Arrange
         List<TaskResponse> taskResponses = tasks.stream()
                 .map(taskDtoConverter::convertEntityToDto)
@@ -186,10 +190,116 @@ class TaskControllerIntegrationTest {
                 // Assert
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().json(objectMapper.writeValueAsString(taskResponses)));
+                .andExpect(content().json(objectMapper.writeValueAsString(new TaskPageResponse(taskResponses, null))))
+                .andExpect(sqlStatements().isAtMost(6));
 
     }
 
+    @Test
+    void getAllTasks_WhenSizeIsReached_ShouldReturnNextCursorAndFollowingPage() throws Exception {
+        // Arrange
+        TaskResponse firstTask = taskDtoConverter.convertDtoToResponse(taskDtoConverter.convertEntityToDto(tasks.get(0)));
+        TaskResponse secondTask = taskDtoConverter.convertDtoToResponse(taskDtoConverter.convertEntityToDto(tasks.get(1)));
+
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(
+                        new TaskPageResponse(List.of(firstTask), firstTask.getId()))));
+
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("size", "1")
+                        .param("cursor", firstTask.getId().toString())
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(
+                        new TaskPageResponse(List.of(secondTask), secondTask.getId()))));
+    }
+
+    @Test
+    void getAllTasks_WithFilters_ShouldReturnOnlyMatchingTasks() throws Exception {
+        // Arrange
+        TaskResponse secondTask = taskDtoConverter.convertDtoToResponse(taskDtoConverter.convertEntityToDto(tasks.get(1)));
+
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("status-value", String.valueOf(TaskStatus.COMPLETED.getValue()))
+                        .param("priority-value", String.valueOf(TaskPriority.LOW.getValue()))
+                        .param("author-id", users.get(1).getId().toString())
+                        .param("assignee-id", users.get(0).getId().toString())
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(
+                        new TaskPageResponse(List.of(secondTask), null))));
+
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("assignee-id", users.get(1).getId().toString())
+                        .param("status-value", String.valueOf(TaskStatus.COMPLETED.getValue()))
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks").isEmpty());
+    }
+
+    @Test
+    void getAllTasks_WhenSizeIsOutOfRange_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("size", "0")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tasks/")
+                        .param("size", "101")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    void getTaskStatistics_ShouldCountAllTasksAndKeepTheCountsForAFewSeconds() throws Exception {
+        // Arrange
+        String firstCount = mockMvc.perform(get("/api/tasks/statistics")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(tasks.size()))
+                .andExpect(jsonPath("$.by-status[%d].count", TaskStatus.IN_PROGRESS.ordinal()).value(1))
+                .andExpect(jsonPath("$.by-status[%d].count", TaskStatus.COMPLETED.ordinal()).value(1))
+                .andExpect(jsonPath("$.by-priority[%d].count", TaskPriority.HIGH.ordinal()).value(0))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        taskRepository.save(Task.builder()
+                .title("TestTask3")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.HIGH)
+                .author(users.get(0))
+                .build());
+
+        // Act
+        mockMvc.perform(get("/api/tasks/statistics")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(content().json(firstCount, true));
+    }
+    @Test
+    void getAllTasks_WhenStatusValueIsInvalid_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks/")
+                        .param("status-value", "4")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getAllTasks_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
         // Act
@@ -210,7 +320,8 @@ class TaskControllerIntegrationTest {
                 // Assert
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().json(objectMapper.writeValueAsString(taskResponse)));
+                .andExpect(content().json(objectMapper.writeValueAsString(taskResponse)))
+                .andExpect(sqlStatements().isAtMost(6));
 
     }
 
@@ -229,7 +340,7 @@ class TaskControllerIntegrationTest {
     @Test
     void getTaskById_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
         // Act
-        mockMvc.perform(get("/api/tasks/{id}", tasks.get(0)))
+        mockMvc.perform(get("/api/tasks/{id}", tasks.get(0).getId()))
                 // Assert
                 .andExpect(status().isForbidden());
     }
@@ -261,6 +372,54 @@ class TaskControllerIntegrationTest {
         assertEquals(2, createdTask.get().getAssignees().size());
     }
 
+    @Test
+    void addTasks_WhenBatchContainsValidAndInvalidRequests_ShouldCreateValidTasksAndReportEachItem() throws Exception {
+        // Arrange
+        TaskRequest withoutTitle = createTaskRequest();
+        withoutTitle.setTitle(null);
+        TaskRequest withUnknownAssignee = createTaskRequest();
+        withUnknownAssignee.setAssigneesEmail(List.of("unknown@mail.test"));
+        TaskRequest secondValid = createTaskRequest();
+        secondValid.setTitle("TestTask 2");
+        secondValid.setAssigneesEmail(List.of());
+        List<TaskRequest> batch = List.of(taskRequest, withoutTitle, withUnknownAssignee, secondValid);
+
+        // Act
+        String responseContent = mockMvc.perform(post("/api/tasks/batch")
+                        .header("Authorization", "Bearer " + token).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].error").value("Invalid title=null"))
+                .andExpect(jsonPath("$[2].error").exists())
+                .andExpect(jsonPath("$[3].index").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        TaskBatchResult[] results = objectMapper.readValue(responseContent, TaskBatchResult[].class);
+        Task first = taskRepository.findById(results[0].getId()).orElseThrow();
+        Task second = taskRepository.findById(results[3].getId()).orElseThrow();
+
+        assertEquals(tasks.size() + 2, taskRepository.count());
+        assertEquals(taskRequest.getTitle(), first.getTitle());
+        assertEquals(users.get(0), first.getAuthor());
+        assertEquals(Set.of(users.get(1), users.get(2)), Set.copyOf(first.getAssignees()));
+        assertEquals("TestTask 2", second.getTitle());
+        assertEquals(List.of(users.get(2)), second.getAssignees());
+    }
+
+    @Test
+    void addTasks_WhenBatchIsEmpty_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/tasks/batch")
+                        .header("Authorization", "Bearer " + token).contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void addTask_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
         // Act
@@ -560,6 +719,93 @@ class TaskControllerIntegrationTest {
         assertEquals(0, createdTask.get().getAssignees().size());
     }
 
+    @Test
+    void patchTask_WhenAuthorPatchesSeveralFields_ShouldApplyAllChanges() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+        String patch = "{\"title\": \"Patched title\", \"description\": null, \"priority-value\": 3}";
+
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content(patch))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Patched title"))
+                .andExpect(jsonPath("$.description").value(""))
+                .andExpect(jsonPath("$.priority.value").value(3))
+                .andExpect(jsonPath("$.status.value").value(2))
+                .andExpect(jsonPath("$.comments.length()").value(3));
+
+        Task patchedTask = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Patched title", patchedTask.getTitle());
+        assertEquals("", patchedTask.getDescription());
+        assertEquals(TaskPriority.HIGH, patchedTask.getPriority());
+        assertEquals(TaskStatus.IN_PROGRESS, patchedTask.getStatus());
+    }
+
+    @Test
+    void patchTask_WhenCommentsAreNotIncluded_ShouldReturnTaskWithoutComments() throws Exception {
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("include-comments", "false")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status-value\": 3}"))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.value").value(3))
+                .andExpect(jsonPath("$.comments").doesNotExist());
+    }
+
+    @Test
+    void patchTask_WhenAssigneePatchesStatus_ShouldReturnOkStatus() throws Exception {
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status-value\": 1}"))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.value").value(1));
+    }
+
+    @Test
+    void patchTask_WhenAssigneePatchesTitle_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status-value\": 1, \"title\": \"Stolen\"}"))
+                // Assert
+                .andExpect(status().isBadRequest());
+
+        assertEquals("TestTask2", taskRepository.findById(tasks.get(1).getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void patchTask_WhenTitleIsRemoved_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": null}"))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void patchTask_WhenTaskNotFound_ShouldReturnNotFoundStatus() throws Exception {
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", Long.MAX_VALUE)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status-value\": 1}"))
+                // Assert
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deleteTask_ShouldReturnOkStatus () throws Exception {
         // Act
@@ -571,6 +817,78 @@ class TaskControllerIntegrationTest {
         assertEquals(tasks.size() - 1, taskRepository.findAll().size());
     }
 
+    @Test
+    void deleteTasks_WhenUserIsAuthorOfAllTasks_ShouldDeleteTasksWithComments() throws Exception {
+        // Arrange
+        Task secondTask = taskRepository.save(Task.builder()
+                .title("TestTask3")
+                .description("task 3")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.PENDING)
+                .author(users.get(0))
+                .assignees(new ArrayList<>(List.of(users.get(1))))
+                .comments(new ArrayList<>())
+                .build());
+        List<Long> ids = List.of(tasks.get(0).getId(), secondTask.getId());
+
+        // Act
+        mockMvc.perform(post("/api/tasks/batch/delete")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                // Assert
+                .andExpect(status().isOk());
+
+        assertEquals(List.of(tasks.get(1).getId()), taskRepository.findAll().stream().map(Task::getId).toList());
+        assertTrue(commentRepository.findAll().stream()
+                .allMatch(comment -> comment.getTask().getId().equals(tasks.get(1).getId())));
+        assertEquals(3, commentRepository.count());
+    }
+
+    @Test
+    void deleteTasks_WhenOneTaskHasAnotherAuthor_ShouldReturnBadRequestStatusAndDeleteNothing() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(tasks.get(0).getId(), tasks.get(1).getId());
+
+        // Act
+        mockMvc.perform(post("/api/tasks/batch/delete")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                // Assert
+                .andExpect(status().isBadRequest());
+
+        assertEquals(tasks.size(), taskRepository.count());
+        assertEquals(comments.size(), commentRepository.count());
+    }
+
+    @Test
+    void deleteTasks_WhenTaskNotFound_ShouldReturnNotFoundStatus() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(tasks.get(0).getId(), Long.MAX_VALUE);
+
+        // Act
+        mockMvc.perform(post("/api/tasks/batch/delete")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                // Assert
+                .andExpect(status().isNotFound());
+
+        assertEquals(tasks.size(), taskRepository.count());
+    }
+
+    @Test
+    void deleteTasks_WhenIdsAreEmpty_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/tasks/batch/delete")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteTask_UnauthorisedRequest_ShouldReturnForbiddenStatus () throws Exception {
         // Act
@@ -597,4 +915,116 @@ class TaskControllerIntegrationTest {
                 // Assert
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    private String getTaskETag(Long id) throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", id)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    @Test
+    void getTaskById_ShouldReturnStrongETagOfTaskVersion() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+
+        // Act
+        String eTag = getTaskETag(task.getId());
+
+        // Assert
+        assertEquals("\"" + taskRepository.findVersionById(task.getId()).orElseThrow() + "\"", eTag);
+    }
+
+    @Test
+    void getTaskById_WhenIfNoneMatchIsCurrent_ShouldReturnNotModifiedStatus() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+        String eTag = getTaskETag(task.getId());
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", eTag))
+                // Assert
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getTaskById_WhenTaskChangedSinceETag_ShouldReturnOkStatusAndNewETag() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+        String eTag = getTaskETag(task.getId());
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": \"Changed title\"}"))
+                .andExpect(status().isOk());
+
+        // Act
+        String newETag = mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", eTag))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Changed title"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    void patchTask_WhenIfMatchIsCurrent_ShouldApplyChangeAndReturnNewETag() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+        String eTag = getTaskETag(task.getId());
+
+        // Act
+        String newETag = mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", eTag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": \"Changed title\"}"))
+                // Assert
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(eTag, newETag);
+        assertEquals(newETag, getTaskETag(task.getId()));
+    }
+
+    @Test
+    void patchTask_WhenIfMatchIsStale_ShouldReturnPreconditionFailedStatus() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+        String staleETag = getTaskETag(task.getId());
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": \"First change\"}"))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", staleETag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": \"Lost update\"}"))
+                // Assert
+                .andExpect(status().isPreconditionFailed());
+        assertEquals("First change", taskRepository.findById(task.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void deleteTask_WhenIfMatchIsStale_ShouldReturnPreconditionFailedStatus() throws Exception {
+        // Arrange
+        Task task = tasks.get(0);
+
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", "\"" + (task.getVersion() + 1) + "\""))
+                // Assert
+                .andExpect(status().isPreconditionFailed());
+        assertTrue(taskRepository.existsById(task.getId()));
+    }
+}
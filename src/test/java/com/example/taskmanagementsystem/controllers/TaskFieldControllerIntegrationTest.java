@@ -26,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static com.example.taskmanagementsystem.monitoring.SqlStatementResultMatchers.sqlStatements;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -81,7 +82,8 @@ class TaskFieldControllerIntegrationTest {
         for (Comment comment : comments) {
             comment.getTask().getComments().add(comment);
         }
-        comments = commentRepository.saveAll(comments);
+        // written before the requests, as in production: the comment changes lock the task row
+        comments = commentRepository.saveAllAndFlush(comments);
         this.taskResponse = createTaskResponse();
     }
 
@@ -211,6 +213,38 @@ class TaskFieldControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
 
+    @Test
+    void getTitle_ShouldReadTitleAndETagWithOneStatement() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + taskRepository.findVersionById(tasks.get(1).getId()).orElseThrow() + "\""))
+                .andExpect(sqlStatements().isAtMost(1));
+    }
+
+    @Test
+    void getTitle_WhenIfNoneMatchIsCurrent_ShouldReturnNotModifiedStatus() throws Exception {
+        // Arrange
+        String eTag = mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", eTag))
+                // Assert
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getTitle_WhenTaskNotFound_ShouldReturnNotFoundStatus() throws Exception {
         // Act
@@ -411,6 +445,72 @@ class TaskFieldControllerIntegrationTest {
 
     }
 
+    @Test
+    void updateTitle_WhenMinimalReturnIsPreferred_ShouldReturnNoContentStatusWithETag() throws Exception {
+        // Arrange
+        String title = "New Test Title";
+
+        // Act
+        mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "return=minimal")
+                        .param("title", title))
+                // Assert
+                .andExpect(status().isNoContent())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+
+        assertEquals(title, taskRepository.findById(tasks.get(0).getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void updateTitle_WhenRepresentationIsPreferred_ShouldReturnOkStatusAndTaskResponseWithETag() throws Exception {
+        // Arrange
+        String title = "New Test Title";
+        taskResponse.setTitle(title);
+
+        // Act
+        String minimalETag = mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "return=minimal")
+                        .param("title", title))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "handling=lenient, return=representation")
+                        .param("title", title))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", minimalETag))
+                .andExpect(header().string("Preference-Applied", "return=representation"))
+                .andExpect(content().json(objectMapper.writeValueAsString(taskResponse)));
+    }
+
+    @Test
+    void updateTitle_WhenIfMatchIsStale_ShouldReturnPreconditionFailedStatus() throws Exception {
+        // Arrange
+        String staleETag = mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "return=minimal")
+                        .param("title", "First title"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", staleETag)
+                        .param("title", "Second title"))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(put("/api/tasks/{id}/title", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", staleETag)
+                        .param("title", "Lost title"))
+                // Assert
+                .andExpect(status().isPreconditionFailed());
+        assertEquals("Second title", taskRepository.findById(tasks.get(0).getId()).orElseThrow().getTitle());
+    }
+
     @Test
     void updateTitle_WithEmptyTitleInput_ShouldReturnBadRequestStatus() throws Exception {
         // Arrange
@@ -1094,6 +1194,78 @@ class TaskFieldControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getCommentsPage_WhenOldestFirst_ShouldReturnWindowsInDateTimeOrder() throws Exception {
+        // Act
+        String firstPage = mockMvc.perform(get("/api/tasks/{id}/comments/page", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "2"))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2))
+                .andExpect(jsonPath("$.comments[0].text").value("Comment 3"))
+                .andExpect(jsonPath("$.comments[1].text").value("Comment 2"))
+                .andExpect(jsonPath("$.next-cursor").exists())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("next-cursor").asText();
+
+        mockMvc.perform(get("/api/tasks/{id}/comments/page", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(1))
+                .andExpect(jsonPath("$.comments[0].text").value("Comment 1"))
+                .andExpect(jsonPath("$.next-cursor").doesNotExist());
+    }
+
+    @Test
+    void getCommentsPage_WhenNewestFirst_ShouldReturnWindowsInReverseDateTimeOrder() throws Exception {
+        // Act
+        String firstPage = mockMvc.perform(get("/api/tasks/{id}/comments/page", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "3")
+                        .param("newest-first", "true"))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].text").value("Comment 1"))
+                .andExpect(jsonPath("$.comments[1].text").value("Comment 2"))
+                .andExpect(jsonPath("$.comments[2].text").value("Comment 3"))
+                .andExpect(jsonPath("$.comments[0].commentator.email").value(users.get(0).getEmail()))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("next-cursor").asText();
+
+        mockMvc.perform(get("/api/tasks/{id}/comments/page", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "3")
+                        .param("newest-first", "true")
+                        .param("cursor", nextCursor))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(0))
+                .andExpect(jsonPath("$.next-cursor").doesNotExist());
+    }
+
+    @Test
+    void getCommentsPage_WhenCursorIsInvalid_ShouldReturnBadRequestStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}/comments/page", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("cursor", "not-a-cursor"))
+                // Assert
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCommentsPage_WhenNotFoundTask_ShouldReturnNotFoundStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}/comments/page", Long.MAX_VALUE)
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void addComment_WhenValidCommentTextInput_ShouldReturnOkStatusAndTaskResponseWithNewComment() throws Exception {
         // Arrange
@@ -1116,6 +1288,29 @@ class TaskFieldControllerIntegrationTest {
         assertEquals(tasks.get(1).getId(), response.getId());
     }
 
+    @Test
+    void addComment_ShouldChangeTaskETag() throws Exception {
+        // Arrange
+        String eTag = mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act
+        String newETag = mockMvc.perform(post("/api/tasks/{id}/comments", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("comment-text", "Valid comment"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Assert
+        assertNotEquals(eTag, newETag);
+        mockMvc.perform(get("/api/tasks/{id}/title", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", newETag));
+    }
+
     @Test
     void addComment_WhenEmptyCommentTextInput_ShouldReturnBadRequestStatus() throws Exception {
         // Arrange
@@ -1188,6 +1383,61 @@ class TaskFieldControllerIntegrationTest {
         assertEquals(tasks.get(1).getId(), response.getId());
     }
 
+    @Test
+    void addComment_WhenMinimalReturnIsPreferred_ShouldReturnCreatedStatusAndOnlyNewCommentWithETag() throws Exception {
+        // Arrange
+        String commentText = "Valid comment";
+        int sizeBefore = tasks.get(1).getComments().size();
+
+        // Act
+        mockMvc.perform(post("/api/tasks/{id}/comments", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "return=minimal")
+                        .param("comment-text", commentText))
+                // Assert
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.text").value(commentText))
+                .andExpect(jsonPath("$.comments").doesNotExist())
+                .andExpect(header().string("ETag", "\"" + taskRepository.findVersionById(tasks.get(1).getId()).orElseThrow() + "\""));
+
+        assertEquals(sizeBefore + 1, commentRepository.findAll().stream()
+                .filter(comment -> comment.getTask().getId().equals(tasks.get(1).getId()))
+                .count());
+    }
+
+    @Test
+    void deleteComment_WhenMinimalReturnIsPreferred_ShouldReturnNoContentStatusWithETag() throws Exception {
+        // Arrange
+        Long commentId = tasks.get(1).getComments().get(2).getId();
+
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}/comments", tasks.get(1).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("Prefer", "return=minimal")
+                        .param("comment-id", String.valueOf(commentId)))
+                // Assert
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"" + taskRepository.findVersionById(tasks.get(1).getId()).orElseThrow() + "\""));
+
+        assertFalse(commentRepository.existsById(commentId));
+    }
+
+    @Test
+    void deleteComment_WhenCommentBelongsToAnotherTask_ShouldReturnNotFoundStatus() throws Exception {
+        // Arrange
+        Long commentId = tasks.get(1).getComments().get(2).getId();
+
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}/comments", tasks.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("comment-id", String.valueOf(commentId)))
+                // Assert
+                .andExpect(status().isNotFound());
+
+        assertTrue(commentRepository.existsById(commentId));
+    }
+
     @Test
     void deleteComment_WhenAnotherUserCommentIdInput_ShouldReturnBadRequestStatus() throws Exception {
         // Arrange
@@ -22,17 +22,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
 
+import static com.example.taskmanagementsystem.monitoring.SqlStatementResultMatchers.sqlStatements;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -71,7 +76,7 @@ class UserControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Autowired
+    @SpyBean
     private JwtProvider jwtProvider;
 
     private String token;
@@ -231,6 +236,17 @@ class UserControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
 
+    @Test
+    void getMe_ShouldParseJwtTokenOncePerRequest() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(jwtProvider, times(1)).getEmailFromValidToken(token);
+    }
+
     @Test
     void getMe_WhenAuthenticatedWithInvalidJwtToken_ShouldReturnNotFoundStatus() throws Exception {
         // Arrange
@@ -298,7 +314,7 @@ class UserControllerIntegrationTest {
     @Test
     void getTasksCreatedByUser_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
         // Act
-        mockMvc.perform(get("/api/users/{id}/created-tasks", users.get(2)))
+        mockMvc.perform(get("/api/users/{id}/created-tasks", users.get(2).getId()))
                 // Assert
                 .andExpect(status().isForbidden());
     }
@@ -333,7 +349,7 @@ class UserControllerIntegrationTest {
     @Test
     void getTasksAssignedToUser_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
         // Act
-        mockMvc.perform(get("/api/users/{id}/assigned-tasks", users.get(2)))
+        mockMvc.perform(get("/api/users/{id}/assigned-tasks", users.get(2).getId()))
                 // Assert
                 .andExpect(status().isForbidden());
     }
@@ -353,7 +369,8 @@ class UserControllerIntegrationTest {
                 // Assert
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+                .andExpect(content().json(objectMapper.writeValueAsString(response)))
+                .andExpect(sqlStatements().isAtMost(5));
     }
 
     @Test
@@ -379,7 +396,8 @@ class UserControllerIntegrationTest {
                 // Assert
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+                .andExpect(content().json(objectMapper.writeValueAsString(response)))
+                .andExpect(sqlStatements().isAtMost(5));
     }
 
     @Test
@@ -390,6 +408,100 @@ class UserControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getStatisticsOfTasksCreatedByUser_WhenUserExist_ShouldReturnCountsPerStatusAndPriority() throws Exception {
+        // Arrange
+        List<Task> created = tasks.stream().filter(task -> task.getAuthor().equals(users.get(2))).toList();
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/users/{id}/created-tasks/statistics", users.get(2).getId())
+                .header("Authorization", "Bearer " + token));
+
+        // Assert
+        assertStatistics(result, created);
+    }
+
+    @Test
+    void getStatisticsOfTasksCreatedByUser_WhenUserNonExist_ShouldReturnNotFoundStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/users/{id}/created-tasks/statistics", Long.MAX_VALUE)
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getStatisticsOfTasksAssignedToUser_WhenUserExist_ShouldReturnCountsPerStatusAndPriority() throws Exception {
+        // Arrange
+        List<Task> assigned = tasks.stream().filter(task -> task.getAssignees().contains(users.get(2))).toList();
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/users/{id}/assigned-tasks/statistics", users.get(2).getId())
+                .header("Authorization", "Bearer " + token));
+
+        // Assert
+        assertStatistics(result, assigned);
+    }
+
+    @Test
+    void getStatisticsOfTasksAssignedToUser_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/users/{id}/assigned-tasks/statistics", users.get(2).getId()))
+                // Assert
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getStatisticsOfTasksCreatedByMe_ShouldReturnCountsPerStatusAndPriority() throws Exception {
+        // Arrange
+        List<Task> created = tasks.stream().filter(task -> task.getAuthor().equals(users.get(0))).toList();
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/users/me/created-tasks/statistics")
+                .header("Authorization", "Bearer " + token));
+
+        // Assert
+        assertStatistics(result, created);
+    }
+
+    @Test
+    void getStatisticsOfTasksAssignedToMe_ShouldReturnCountsPerStatusAndPriority() throws Exception {
+        // Arrange
+        List<Task> assigned = tasks.stream().filter(task -> task.getAssignees().contains(users.get(0))).toList();
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/users/me/assigned-tasks/statistics")
+                .header("Authorization", "Bearer " + token));
+
+        // Assert
+        assertStatistics(result, assigned);
+    }
+
+    private void assertStatistics(ResultActions result, List<Task> expected) throws Exception {
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(expected.size()));
+        int cell = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                long count = expected.stream()
+                        .filter(task -> task.getStatus() == status && task.getPriority() == priority)
+                        .count();
+                result.andExpect(jsonPath("$.by-status-and-priority[%d].status.value", cell).value(status.getValue()))
+                        .andExpect(jsonPath("$.by-status-and-priority[%d].priority.value", cell).value(priority.getValue()))
+                        .andExpect(jsonPath("$.by-status-and-priority[%d].count", cell).value(count));
+                cell++;
+            }
+            long count = expected.stream().filter(task -> task.getStatus() == status).count();
+            result.andExpect(jsonPath("$.by-status[%d].count", status.ordinal()).value(count));
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            long count = expected.stream().filter(task -> task.getPriority() == priority).count();
+            result.andExpect(jsonPath("$.by-priority[%d].count", priority.ordinal()).value(count))
+                    .andExpect(jsonPath("$.by-priority[%d].status", priority.ordinal()).doesNotExist());
+        }
+    }
+
     @Test
     void updateName_WhenValidNameInput_ShouldReturnOkStatusAndUserResponseWithNewName() throws Exception {
         // Arrange
@@ -407,6 +519,28 @@ class UserControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
 
+    @Test
+    void updateName_WhenValidNameInput_ShouldRefreshCurrentUser() throws Exception {
+        // Arrange
+        String name = "new name";
+        mockMvc.perform(get("/api/users/me/name")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(users.get(0).getName()));
+
+        // Act
+        mockMvc.perform(put("/api/users/me/name")
+                        .header("Authorization", "Bearer " + token)
+                        .param("name", name))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/users/me/name")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(name));
+    }
+
     @Test
     void updateName_WhenEmptyNameInput_ShouldReturnBadRequestStatus() throws Exception {
         // Arrange
@@ -462,6 +596,26 @@ class UserControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
 
+    @Test
+    void updateEmail_WhenValidEmailInput_ShouldRejectTokenWithOldEmail() throws Exception {
+        // Arrange
+        String email = "valid.email@mail.test";
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(put("/api/users/me/email")
+                        .header("Authorization", "Bearer " + token)
+                        .param("email", email))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void updateEmail_WhenEmailInputBelongsAnotherUser_ShouldReturnBadRequestStatus() throws Exception {
         // Arrange
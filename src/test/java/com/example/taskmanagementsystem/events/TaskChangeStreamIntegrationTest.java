@@ -0,0 +1,237 @@
+package com.example.taskmanagementsystem.events;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Task changes made through the API and pushed to the event streams of the users they concern.
+ * Not transactional: the events are pushed only once the changes are committed.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class TaskChangeStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private List<User> users;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        String password = passwordEncoder.encode("Password");
+        users = userRepository.saveAll(List.of(
+                User.builder().name("author").email("events-author@mail.test").password(password).build(),
+                User.builder().name("assignee").email("events-assignee@mail.test").password(password).build(),
+                User.builder().name("outsider").email("events-outsider@mail.test").password(password).build()));
+        tasks = taskRepository.saveAll(List.of(
+                Task.builder()
+                        .title("Assigned task")
+                        .description("task 1")
+                        .priority(TaskPriority.LOW)
+                        .status(TaskStatus.PENDING)
+                        .author(users.get(0))
+                        .assignees(new ArrayList<>(List.of(users.get(1))))
+                        .comments(new ArrayList<>())
+                        .build(),
+                Task.builder()
+                        .title("Outsider's task")
+                        .description("task 2")
+                        .priority(TaskPriority.LOW)
+                        .status(TaskStatus.PENDING)
+                        .author(users.get(0))
+                        .assignees(new ArrayList<>(List.of(users.get(2))))
+                        .comments(new ArrayList<>())
+                        .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.deleteAll(users);
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtProvider.generateToken(user.getEmail());
+    }
+
+    private MvcResult subscribe(User user, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder subscription = get("/api/users/me/task-events")
+                .header("Authorization", bearer(user));
+        if (lastEventId != null)
+            subscription.header("Last-Event-ID", lastEventId);
+        return mockMvc.perform(subscription)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void changeStatus(Task task, int statusValue) throws Exception {
+        mockMvc.perform(put("/api/tasks/{id}/status", task.getId())
+                        .header("Authorization", bearer(users.get(0)))
+                        .param("status-value", String.valueOf(statusValue)))
+                .andExpect(status().isOk());
+    }
+
+    private String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content;
+        while (!(content = stream.getResponse().getContentAsString()).contains(expected)) {
+            if (System.nanoTime() > deadline)
+                fail("no \"" + expected + "\" in the stream:\n" + content);
+            Thread.sleep(20);
+        }
+        return content;
+    }
+
+    private List<String> awaitEventIds(MvcResult stream, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<String> ids;
+        while ((ids = eventIds(stream.getResponse().getContentAsString())).size() < count) {
+            if (System.nanoTime() > deadline)
+                fail("only " + ids.size() + " of " + count + " events in the stream");
+            Thread.sleep(20);
+        }
+        return ids;
+    }
+
+    private List<String> eventIds(String content) {
+        return content.lines().filter(line -> line.startsWith("id:")).map(line -> line.substring(3)).toList();
+    }
+
+    @Test
+    void streamTaskEventsOfMe_WhenAssignedTaskStatusChanges_ShouldPushTaskChangeEvent() throws Exception {
+        // Arrange
+        MvcResult stream = subscribe(users.get(1), null);
+
+        // Act
+        changeStatus(tasks.get(0), TaskStatus.IN_PROGRESS.getValue());
+
+        // Assert
+        String content = awaitContent(stream, "\"task-id\":" + tasks.get(0).getId());
+        assertTrue(content.contains("event:task-change"));
+        assertTrue(content.contains("\"type\":\"STATUS\""));
+        assertTrue(content.contains("\"changed-by\":" + users.get(0).getId()));
+        assertEquals("text/event-stream", stream.getResponse().getContentType());
+    }
+
+    @Test
+    void streamTaskEventsOfMe_ShouldNotPushChangesOfTasksOfOtherUsers() throws Exception {
+        // Arrange
+        MvcResult stream = subscribe(users.get(2), null);
+
+        // Act
+        changeStatus(tasks.get(0), TaskStatus.IN_PROGRESS.getValue());
+        changeStatus(tasks.get(1), TaskStatus.IN_PROGRESS.getValue());
+
+        // Assert
+        String content = awaitContent(stream, "\"task-id\":" + tasks.get(1).getId());
+        assertFalse(content.contains("\"task-id\":" + tasks.get(0).getId()));
+    }
+
+    @Test
+    void streamTaskEventsOfMe_WhenTypesRequested_ShouldPushOnlyThoseChanges() throws Exception {
+        // Arrange
+        MvcResult stream = mockMvc.perform(get("/api/users/me/task-events")
+                        .header("Authorization", bearer(users.get(1)))
+                        .param("types", "COMMENTS"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        changeStatus(tasks.get(0), TaskStatus.IN_PROGRESS.getValue());
+        mockMvc.perform(post("/api/tasks/{id}/comments", tasks.get(0).getId())
+                        .header("Authorization", bearer(users.get(1)))
+                        .param("comment-text", "Comment"))
+                .andExpect(status().isOk());
+
+        // Assert
+        String content = awaitContent(stream, "\"type\":\"COMMENTS\"");
+        assertFalse(content.contains("\"type\":\"STATUS\""));
+    }
+
+    @Test
+    void streamTaskEventsOfMe_WhenAssigneeRemoved_ShouldPushChangeToRemovedAssignee() throws Exception {
+        // Arrange
+        MvcResult stream = subscribe(users.get(1), null);
+
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}/assignees", tasks.get(0).getId())
+                        .header("Authorization", bearer(users.get(0)))
+                        .param("assignee-id", String.valueOf(users.get(1).getId())))
+                .andExpect(status().isOk());
+
+        // Assert
+        awaitContent(stream, "\"type\":\"ASSIGNEES\"");
+    }
+
+    @Test
+    void streamTaskEventsOfMe_WhenReconnectingWithLastEventId_ShouldPushMissedEvents() throws Exception {
+        // Arrange
+        MvcResult firstStream = subscribe(users.get(1), null);
+        changeStatus(tasks.get(0), TaskStatus.IN_PROGRESS.getValue());
+        String received = awaitEventIds(firstStream, 1).get(0);
+        changeStatus(tasks.get(0), TaskStatus.COMPLETED.getValue());
+        String missed = awaitEventIds(firstStream, 2).get(1);
+
+        // Act
+        MvcResult stream = subscribe(users.get(1), received);
+
+        // Assert
+        String content = awaitContent(stream, "id:" + missed);
+        assertEquals(List.of(missed), eventIds(content));
+    }
+
+    @Test
+    void streamTaskEventsOfMe_WhenLastEventIdUnknown_ShouldPushResetEvent() throws Exception {
+        // Act
+        MvcResult stream = subscribe(users.get(1), "unknown-1");
+
+        // Assert
+        awaitContent(stream, "event:reset");
+    }
+}
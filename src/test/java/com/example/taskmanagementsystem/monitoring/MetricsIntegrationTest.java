@@ -0,0 +1,150 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import com.example.taskmanagementsystem.services.impl.TaskServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Timers of the services, statement counts of the requests and their export in the Prometheus format.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private User author;
+    private Task task;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder().name("author").email("metrics-author@mail.test").password("****").build());
+        task = taskRepository.save(Task.builder()
+                .title("Measured task")
+                .description("task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .author(author)
+                .assignees(new ArrayList<>())
+                .comments(new ArrayList<>())
+                .build());
+        token = jwtProvider.generateToken(author.getEmail());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.delete(task);
+        userRepository.delete(author);
+    }
+
+    @Test
+    void getTask_ShouldRecordSqlStatementsOfTheRequestByUriPattern() throws Exception {
+        // Arrange
+        entityManagerFactory.getCache().evictAll();
+        DistributionSummary statements = meterRegistry.summary(SqlStatementMetricsFilter.STATEMENTS_SUMMARY,
+                "method", "GET", "uri", "/api/tasks/{id}");
+        long countBefore = statements.count();
+        double totalBefore = statements.totalAmount();
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertEquals(countBefore + 1, statements.count());
+        assertTrue(statements.totalAmount() - totalBefore >= 1, "loading the task takes at least one statement");
+    }
+
+    @Test
+    void getTask_WhenTaskNonExist_ShouldTimeServiceCallWithException() throws Exception {
+        // Arrange
+        Timer failedCalls = meterRegistry.timer("service.calls", "class", TaskServiceImpl.class.getName(),
+                "method", "findTaskById", "error", "EntityNotFoundException");
+        long failedBefore = failedCalls.count();
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}", Long.MAX_VALUE)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        // Assert
+        assertEquals(failedBefore + 1, failedCalls.count());
+    }
+
+    @Test
+    void prometheus_ShouldExportServiceRepositoryAndHibernateMetricsWithoutToken() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(get("/actuator/prometheus"))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_calls_seconds_count{class=\"" + TaskServiceImpl.class.getName() + "\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count")))
+                .andExpect(content().string(containsString("hibernate_entities_loads")))
+                .andExpect(content().string(containsString("hibernate_collections_fetches")))
+                .andExpect(content().string(containsString("http_server_requests_sql_statements_count")))
+                .andExpect(content().string(containsString("security_jwt_authentication_seconds_count{error=\"none\",outcome=\"authenticated\"")));
+    }
+
+    @Test
+    void metrics_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/actuator/metrics"))
+                // Assert
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+class SqlStatementMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Handles the request like a controller taking {@code statements} SQL statements.
+     */
+    private MockHttpServletRequest handle(SqlStatementMetricsFilter filter, String method, String uriPattern,
+                                          int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uriPattern);
+        FilterChain controller = (servletRequest, servletResponse) -> {
+            SqlStatementCounter counter = new SqlStatementCounter();
+            for (int i = 0; i < statements; i++)
+                counter.jdbcPrepareStatementStart();
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, uriPattern);
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), controller);
+        return request;
+    }
+
+    private double overBudget(String method, String uri) {
+        Counter counter = meterRegistry.find(SqlStatementMetricsFilter.OVER_BUDGET_COUNTER)
+                .tags("method", method, "uri", uri)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsOfRequest() throws Exception {
+        // Arrange
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(meterRegistry, 0, List.of());
+
+        // Act
+        MockHttpServletRequest request = handle(filter, "GET", "/api/tasks/{id}", 3);
+
+        // Assert
+        assertEquals(3, request.getAttribute(SqlStatementMetricsFilter.STATEMENTS_ATTRIBUTE));
+        assertEquals(3, meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_SUMMARY)
+                .tags("method", "GET", "uri", "/api/tasks/{id}")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_WhenOverBudgetOfEndpoint_ShouldCountRequestOverBudget() throws Exception {
+        // Arrange
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(meterRegistry, 0,
+                List.of("GET /api/tasks/{id}=3", " PUT  /api/tasks/{taskId}/status = 2 "));
+
+        // Act
+        handle(filter, "GET", "/api/tasks/{id}", 3);
+        handle(filter, "GET", "/api/tasks/{id}", 4);
+        handle(filter, "PUT", "/api/tasks/{taskId}/status", 5);
+        handle(filter, "GET", "/api/tasks/", 100);
+
+        // Assert
+        assertEquals(1, overBudget("GET", "/api/tasks/{id}"));
+        assertEquals(1, overBudget("PUT", "/api/tasks/{taskId}/status"));
+        assertEquals(0, overBudget("GET", "/api/tasks/"));
+    }
+
+    @Test
+    void doFilter_WhenEndpointWithoutBudget_ShouldUseDefaultBudgetUnlessZero() throws Exception {
+        // Arrange
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(meterRegistry, 5,
+                List.of("POST /api/tasks/batch=0"));
+
+        // Act
+        handle(filter, "GET", "/api/tasks/", 5);
+        handle(filter, "GET", "/api/users/me", 6);
+        handle(filter, "POST", "/api/tasks/batch", 500);
+
+        // Assert
+        assertEquals(0, overBudget("GET", "/api/tasks/"));
+        assertEquals(1, overBudget("GET", "/api/users/me"));
+        assertEquals(0, overBudget("POST", "/api/tasks/batch"));
+    }
+
+    @Test
+    void constructor_WhenBudgetInvalid_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SqlStatementMetricsFilter(meterRegistry, 0, List.of("/api/tasks/=3")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SqlStatementMetricsFilter(meterRegistry, 0, List.of("GET /api/tasks/=many")));
+    }
+}
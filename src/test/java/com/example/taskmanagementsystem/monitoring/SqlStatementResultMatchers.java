@@ -0,0 +1,36 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc expectations on the SQL statements a request took, as counted by {@link SqlStatementMetricsFilter}:
+ * {@code mockMvc.perform(get("/api/tasks/")).andExpect(sqlStatements().isAtMost(4))}.
+ * <p>
+ * In a {@code @Transactional} test the entities saved by the test are still in the persistence context,
+ * so a request can take fewer statements than in production, never more.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+public final class SqlStatementResultMatchers {
+
+    private SqlStatementResultMatchers() {
+    }
+
+    public static SqlStatementResultMatchers sqlStatements() {
+        return new SqlStatementResultMatchers();
+    }
+
+    public ResultMatcher isAtMost(int maxStatements) {
+        return result -> {
+            Object statements = result.getRequest().getAttribute(SqlStatementMetricsFilter.STATEMENTS_ATTRIBUTE);
+            assertNotNull(statements, "the request did not pass the SQL statement counting filter");
+            assertTrue((Integer) statements <= maxStatements, result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " took " + statements
+                    + " SQL statements, expected at most " + maxStatements);
+        };
+    }
+}
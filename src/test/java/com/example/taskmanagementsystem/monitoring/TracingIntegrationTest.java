@@ -0,0 +1,189 @@
+package com.example.taskmanagementsystem.monitoring;
+
+import com.example.taskmanagementsystem.models.Task;
+import com.example.taskmanagementsystem.models.TaskPriority;
+import com.example.taskmanagementsystem.models.TaskStatus;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Spans of a request from the security filter down to the JDBC queries, kept by {@link RecentSpanExporter}.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@AutoConfigureObservability
+class TracingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private RecentSpanExporter recentSpanExporter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private static final AttributeKey<String> URI = AttributeKey.stringKey("uri");
+    private static final AttributeKey<String> QUERY = AttributeKey.stringKey("jdbc.query[0]");
+
+    private User author;
+    private Task task;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder().name("author").email("tracing-author@mail.test").password("****").build());
+        task = taskRepository.save(Task.builder()
+                .title("Traced task")
+                .description("task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .author(author)
+                .assignees(new ArrayList<>())
+                .comments(new ArrayList<>())
+                .build());
+        token = jwtProvider.generateToken(author.getEmail());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteById(task.getId());
+        userRepository.delete(author);
+    }
+
+    /**
+     * @return the spans of the trace of the latest request to the URI pattern, once exported
+     */
+    private List<SpanData> traceOfLatestRequest(String uriPattern) {
+        assertTrue(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess());
+        List<SpanData> spans = recentSpanExporter.getSpans();
+        for (int i = spans.size() - 1; i >= 0; i--) {
+            SpanData span = spans.get(i);
+            if (span.getKind() == SpanKind.SERVER && uriPattern.equals(span.getAttributes().get(URI)))
+                return recentSpanExporter.getSpans(span.getTraceId());
+        }
+        return fail("no trace of " + uriPattern);
+    }
+
+    private static List<SpanData> spansNamed(List<SpanData> trace, String name) {
+        return trace.stream().filter(span -> span.getName().equals(name)).toList();
+    }
+
+    private static boolean isDescendant(SpanData span, SpanData ancestor, List<SpanData> trace) {
+        Map<String, SpanData> spansById = trace.stream().collect(Collectors.toMap(SpanData::getSpanId, s -> s));
+        for (SpanData parent = spansById.get(span.getParentSpanId()); parent != null;
+             parent = spansById.get(parent.getParentSpanId()))
+            if (parent == ancestor)
+                return true;
+        return false;
+    }
+
+    @Test
+    void updateStatus_ShouldTraceFilterServiceQueriesAndConversionUnderRequestSpan() throws Exception {
+        // Act
+        mockMvc.perform(put("/api/tasks/{id}/status", task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("status-value", "2"))
+                .andExpect(status().isOk());
+
+        // Assert
+        List<SpanData> trace = traceOfLatestRequest("/api/tasks/{taskId}/status");
+        SpanData request = spansNamed(trace, "http put /api/tasks/{taskId}/status").get(0);
+        List<SpanData> authentications = spansNamed(trace, "jwt authentication");
+        List<SpanData> services = spansNamed(trace, "task-service-impl#update-task-status-by-id");
+        List<SpanData> conversions = spansNamed(trace, "task response conversion");
+        assertEquals(1, authentications.size(), "the token is checked once per request");
+        assertEquals(1, services.size());
+        assertEquals(1, conversions.size());
+        assertTrue(isDescendant(authentications.get(0), request, trace));
+        assertTrue(isDescendant(services.get(0), request, trace));
+        assertTrue(isDescendant(conversions.get(0), request, trace));
+
+        SpanData update = spansNamed(trace, "query").stream()
+                .filter(span -> String.valueOf(span.getAttributes().get(QUERY)).startsWith("update tasks"))
+                .findFirst()
+                .orElseGet(() -> fail("no span of the task update query"));
+        assertTrue(isDescendant(update, services.get(0), trace));
+    }
+
+    @Test
+    void traces_ShouldReturnSpansOfTraceInStartOrder() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        String traceId = traceOfLatestRequest("/api/tasks/{id}").get(0).getTraceId();
+
+        // Act
+        mockMvc.perform(get("/actuator/traces")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].trace-id", hasItem(traceId)));
+        mockMvc.perform(get("/actuator/traces/{traceId}", traceId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("http get /api/tasks/{id}"))
+                .andExpect(jsonPath("$[0].parent-span-id").doesNotExist())
+                .andExpect(jsonPath("$[*].name", hasItems("jwt authentication", "task response conversion", "query")));
+    }
+
+    @Test
+    void traces_WhenTraceNotKept_ShouldReturnNotFoundStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/actuator/traces/{traceId}", "0af7651916cd43dd8448eb211c80319c")
+                        .header("Authorization", "Bearer " + token))
+                // Assert
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void traces_UnauthorisedRequest_ShouldReturnForbiddenStatus() throws Exception {
+        // Act
+        mockMvc.perform(get("/actuator/traces"))
+                // Assert
+                .andExpect(status().isForbidden());
+    }
+}
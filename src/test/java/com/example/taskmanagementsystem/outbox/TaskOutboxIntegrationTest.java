@@ -0,0 +1,243 @@
+package com.example.taskmanagementsystem.outbox;
+
+import com.example.taskmanagementsystem.dto.comment.CommentDto;
+import com.example.taskmanagementsystem.dto.task.TaskRequest;
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.services.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Task changes recorded in the outbox with the change itself and published by the relay,
+ * which is driven by the tests instead of its schedule.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+@AutoConfigureTestDatabase
+class TaskOutboxIntegrationTest {
+
+    @TestConfiguration
+    static class RecordingPublisherConfig {
+
+        @Bean
+        @Primary
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+
+    static class RecordingPublisher implements TaskOutboxPublisher {
+        private final List<TaskOutboxMessage> messages = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public synchronized void publish(List<TaskOutboxMessage> batch) {
+            if (failing)
+                throw new IllegalStateException("broker is down");
+            messages.addAll(batch);
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskOutboxRelay relay;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User author;
+    private Task first;
+    private Task second;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder().name("author").email("outbox-author@mail.test").password("****").build());
+        first = createTask("First");
+        second = createTask("Second");
+        publisher.messages.clear();
+        publisher.failing = false;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from task_outbox");
+        commentRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.delete(author);
+    }
+
+    private Task createTask(String title) {
+        return taskRepository.save(Task.builder()
+                .title(title)
+                .description("task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .author(author)
+                .assignees(new ArrayList<>())
+                .comments(new ArrayList<>())
+                .build());
+    }
+
+    private List<String> outboxTypes() {
+        return jdbcTemplate.queryForList("select type from task_outbox order by id", String.class);
+    }
+
+    private List<String> published(Task task) {
+        return publisher.messages.stream()
+                .filter(message -> message.getTaskId().equals(task.getId()))
+                .map(TaskOutboxMessage::getType)
+                .toList();
+    }
+
+    @Test
+    void changes_ShouldBeWrittenToOutboxOnlyWhenCommitted() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.updateTaskStatusById(first.getId(), TaskStatus.COMPLETED.getValue(), author, null, false);
+            status.setRollbackOnly();
+        });
+        taskService.updateTaskPriorityById(first.getId(), TaskPriority.HIGH.getValue(), author, null, false);
+
+        // Assert
+        assertEquals(List.of("PRIORITY"), outboxTypes());
+        String payload = jdbcTemplate.queryForObject("select payload from task_outbox", String.class);
+        assertTrue(payload.contains("\"task-id\":" + first.getId()));
+        assertTrue(payload.contains("\"changed-by\":" + author.getId()));
+    }
+
+    @Test
+    void createTasks_ShouldWriteChangeOfEveryCreatedTask() {
+        // Arrange
+        List<TaskRequest> requests = List.of(
+                TaskRequest.builder().title("Batch 1").build(),
+                TaskRequest.builder().build(),
+                TaskRequest.builder().title("Batch 2").build());
+
+        // Act
+        taskService.createTasks(requests, author);
+
+        // Assert
+        assertEquals(List.of("CREATED", "CREATED"), outboxTypes());
+    }
+
+    @Test
+    void relayPending_ShouldPublishChangesInOrderAndDeleteThem() {
+        // Arrange
+        taskService.updateTaskStatusById(first.getId(), TaskStatus.IN_PROGRESS.getValue(), author, null, false);
+        taskService.updateTaskPriorityById(second.getId(), TaskPriority.HIGH.getValue(), author, null, false);
+        taskService.createCommentInTask(first.getId(), CommentDto.builder().text("comment").build(), author, null);
+        taskService.updateTaskStatusById(first.getId(), TaskStatus.COMPLETED.getValue(), author, null, false);
+        double publishedBefore = meterRegistry.get(TaskOutboxRelay.PUBLISHED_COUNTER).counter().count();
+
+        // Act
+        int published = relay.relayPending();
+
+        // Assert
+        assertEquals(4, published);
+        assertEquals(List.of("STATUS", "COMMENTS", "STATUS"), published(first));
+        assertEquals(List.of("PRIORITY"), published(second));
+        assertEquals(List.of(), outboxTypes());
+        assertEquals(publishedBefore + 4, meterRegistry.get(TaskOutboxRelay.PUBLISHED_COUNTER).counter().count());
+    }
+
+    @Test
+    void relayPending_WhenPublisherFails_ShouldKeepChangesForTheNextRound() {
+        // Arrange
+        taskService.updateTaskStatusById(first.getId(), TaskStatus.IN_PROGRESS.getValue(), author, null, false);
+        publisher.failing = true;
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> relay.relayPending());
+        publisher.failing = false;
+        int published = relay.relayPending();
+
+        // Assert
+        assertEquals(1, published);
+        assertEquals(List.of("STATUS"), published(first));
+    }
+
+    @Test
+    void relayPending_WhenAnotherRelayHoldsOlderChangeOfTask_ShouldWaitForIt() throws Exception {
+        // Arrange
+        taskService.updateTaskStatusById(first.getId(), TaskStatus.IN_PROGRESS.getValue(), author, null, false);
+        taskService.updateTaskPriorityById(second.getId(), TaskPriority.HIGH.getValue(), author, null, false);
+        taskService.updateTaskStatusById(first.getId(), TaskStatus.COMPLETED.getValue(), author, null, false);
+        Long oldestOfFirst = jdbcTemplate.queryForObject(
+                "select min(id) from task_outbox where task_id = ?", Long.class, first.getId());
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate otherRelay = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        CompletableFuture<Void> holding = CompletableFuture.runAsync(() -> otherRelay.executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).queryForList("select id from task_outbox where id = ? for update", oldestOfFirst);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Act
+        int publishedWhileHeld = relay.relayPending();
+        release.countDown();
+        holding.get(10, TimeUnit.SECONDS);
+        int publishedAfterwards = relay.relayPending();
+
+        // Assert
+        assertEquals(1, publishedWhileHeld);
+        assertEquals(2, publishedAfterwards);
+        assertEquals(List.of("STATUS", "STATUS"), published(first));
+        assertEquals(List.of("PRIORITY"), published(second));
+        assertEquals("PRIORITY", publisher.messages.get(0).getType());
+    }
+}
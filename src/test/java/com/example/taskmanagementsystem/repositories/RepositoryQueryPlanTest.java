@@ -0,0 +1,258 @@
+package com.example.taskmanagementsystem.repositories;
+
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.projections.TaskTitleView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the SQL of every repository access path through {@code EXPLAIN} and fails
+ * when a table is read with a full scan instead of an index.
+ * H2 indexes foreign keys on its own, so its plans do not show that PostgreSQL has the indexes:
+ * those are created by the {@code V3} migration, whose indexes are checked by name and columns.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.example.taskmanagementsystem.repositories.RepositoryQueryPlanTest$SqlRecorder")
+@AutoConfigureTestDatabase
+@Transactional
+class RepositoryQueryPlanTest {
+
+    private static final String FULL_SCAN = ".tableScan";
+    private static final String ACCESS_PATH_MIGRATION = "db/migration/common/V3__access_path_indexes.sql";
+    private static final Pattern CREATE_INDEX = Pattern.compile("CREATE INDEX IF NOT EXISTS (\\w+) ON (\\w+) \\(([^)]+)\\)");
+    private static final Pattern ADD_UNIQUE = Pattern.compile("ALTER TABLE (\\w+) ADD CONSTRAINT (\\w+) UNIQUE \\(([^)]+)\\)");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private User assignee;
+    private Task task;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder().name("author").email("author@mail.test").password("****").build());
+        assignee = userRepository.save(User.builder().name("assignee").email("assignee@mail.test").password("****").build());
+        task = taskRepository.save(Task.builder()
+                .title("Task")
+                .description("task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .author(author)
+                .assignees(new ArrayList<>(List.of(assignee)))
+                .comments(new ArrayList<>())
+                .build());
+        comment = commentRepository.save(Comment.builder()
+                .task(task)
+                .commentator(assignee)
+                .text("Comment")
+                .dateTime(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllWithDetailsByAuthor_ShouldNotScanTasks() {
+        assertNoFullScan(() -> taskRepository.findAllWithDetailsByAuthor(author));
+    }
+
+    @Test
+    void findAllWithDetailsByAssigneesContains_ShouldNotScanTasks() {
+        assertNoFullScan(() -> assertEquals(1, taskRepository.findAllWithDetailsByAssigneesContains(assignee).size()));
+    }
+
+    @Test
+    void findPageAfter_ShouldNotScanTasks() {
+        assertNoFullScan(() -> taskRepository.findPageAfter(0L, null, null, null, null, Limit.of(20)));
+        assertNoFullScan(() -> taskRepository.findPageAfter(0L, TaskStatus.PENDING, TaskPriority.LOW,
+                author.getId(), assignee.getId(), Limit.of(20)));
+    }
+
+    @Test
+    void findTaskFieldsById_ShouldNotScanTasks() {
+        assertNoFullScan(() -> taskRepository.findProjectedById(task.getId(), TaskTitleView.class));
+        assertNoFullScan(() -> taskRepository.findAuthorById(task.getId()));
+        assertNoFullScan(() -> taskRepository.existsById(task.getId()));
+    }
+
+    @Test
+    void loadingTaskCollections_ShouldNotScanAssigneesOrComments() {
+        Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+
+        assertNoFullScan(() -> loaded.getAssignees().size());
+        assertNoFullScan(() -> loaded.getComments().size());
+    }
+
+    @Test
+    void findCommentsPage_ShouldNotScanComments() {
+        assertNoFullScan(() -> commentRepository.findOldestPage(task.getId(), Limit.of(20)));
+        assertNoFullScan(() -> commentRepository.findPageAfter(task.getId(),
+                comment.getDateTime(), comment.getId(), Limit.of(20)));
+        assertNoFullScan(() -> commentRepository.findNewestPage(task.getId(), Limit.of(20)));
+        assertNoFullScan(() -> commentRepository.findPageBefore(task.getId(),
+                comment.getDateTime(), comment.getId(), Limit.of(20)));
+    }
+
+    @Test
+    void bulkDeleteOfTasks_ShouldNotScanAnyTable() {
+        assertNoFullScan(() -> taskRepository.findAuthorIdsByIdIn(List.of(task.getId())));
+        assertNoFullScan(() -> commentRepository.deleteAllByTaskIdIn(List.of(task.getId())));
+        assertNoFullScan(() -> taskRepository.deleteAllByIdIn(List.of(task.getId())));
+    }
+
+    @Test
+    void countTasksOfUser_ShouldNotScanTasks() {
+        assertNoFullScan(() -> taskRepository.countByStatusAndPriorityByAuthorId(author.getId()));
+        assertNoFullScan(() -> taskRepository.countByStatusAndPriorityByAssigneeId(assignee.getId()));
+    }
+
+    @Test
+    void findUsersByEmail_ShouldNotScanUsers() {
+        assertNoFullScan(() -> userRepository.findByEmail(author.getEmail()));
+        assertNoFullScan(() -> userRepository.findAllByEmailIn(Set.of(author.getEmail(), assignee.getEmail())));
+    }
+
+    @Test
+    void accessPathIndexes_ShouldExistWithColumnsOfMigration() throws Exception {
+        String migration = new String(new ClassPathResource(ACCESS_PATH_MIGRATION).getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+
+        Matcher indexes = CREATE_INDEX.matcher(migration);
+        int count = 0;
+        while (indexes.find()) {
+            count++;
+            assertEquals(columns(indexes.group(3)), indexColumns(indexes.group(2), indexes.group(1)),
+                    "Columns of index " + indexes.group(1));
+        }
+        assertEquals(4, count, "Indexes created by " + ACCESS_PATH_MIGRATION);
+
+        Matcher constraints = ADD_UNIQUE.matcher(migration);
+        assertTrue(constraints.find());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from information_schema.table_constraints " +
+                        "where upper(constraint_name) = upper(?) and constraint_type = 'UNIQUE'",
+                Integer.class, constraints.group(2)), "Unique constraint " + constraints.group(2));
+    }
+
+    private static List<String> columns(String columnList) {
+        return Arrays.stream(columnList.split(",")).map(column -> column.trim().toLowerCase()).toList();
+    }
+
+    /**
+     * @return the columns of the index in index order, empty if the table has no index of that name
+     */
+    private List<String> indexColumns(String table, String index) {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            Map<Integer, String> columns = new TreeMap<>();
+            try (ResultSet rows = connection.getMetaData().getIndexInfo(null, null, table.toUpperCase(), false, false)) {
+                while (rows.next())
+                    if (index.equalsIgnoreCase(rows.getString("INDEX_NAME")))
+                        columns.put(rows.getInt("ORDINAL_POSITION"), rows.getString("COLUMN_NAME").toLowerCase());
+            }
+            return new ArrayList<>(columns.values());
+        });
+    }
+
+    private void assertNoFullScan(Runnable accessPath) {
+        SqlRecorder.clear();
+        accessPath.run();
+        List<String> statements = SqlRecorder.statements();
+
+        assertFalse(statements.isEmpty(), "The access path executed no statements");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains(FULL_SCAN), "Full scan in\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next())
+                        plan.append(rows.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // the plan does not depend on the values, only on their types
+    private Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.TIMESTAMP -> LocalDateTime.now();
+            case Types.BIGINT, Types.INTEGER -> 1L;
+            default -> "1";
+        };
+    }
+
+    /**
+     * Collects the SQL Hibernate sends to the database.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagementsystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+class PostgresTaskSearchIndexTest {
+
+    @Test
+    void toHtml_ShouldEscapeHeadlineAndMarkOnlyTheMatches() {
+        // Arrange
+        String headline = "<script>alert(\"x\")</script> " + PostgresTaskSearchIndex.START_SEL + "quokka"
+                + PostgresTaskSearchIndex.STOP_SEL + " & co";
+
+        // Act
+        String html = PostgresTaskSearchIndex.toHtml(headline);
+
+        // Assert
+        assertEquals("&lt;script&gt;alert(&quot;x&quot;)&lt;/script&gt; <mark>quokka</mark> &amp; co", html);
+    }
+
+    @Test
+    void toHtml_WhenNoHeadline_ShouldReturnNull() {
+        assertNull(PostgresTaskSearchIndex.toHtml(null));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.taskmanagementsystem.search;
+
+import com.example.taskmanagementsystem.dto.comment.CommentDto;
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
+import com.example.taskmanagementsystem.dto.task.TaskRequest;
+import com.example.taskmanagementsystem.models.User;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.security.JwtProvider;
+import com.example.taskmanagementsystem.services.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tasks found through the in-memory index of the H2 database. Not transactional: the index follows
+ * the changes once they are committed.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class TaskSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private User author;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder().name("author").email("search-author@mail.test").password("****").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // through the service, so the index forgets the tasks as well
+        if (!taskIds.isEmpty())
+            taskService.deleteTasksByIds(taskIds, author);
+        taskIds.clear();
+        userRepository.delete(author);
+    }
+
+    private Long createTask(String title, String description) {
+        List<TaskBatchResult> results = taskService.createTasks(
+                List.of(TaskRequest.builder().title(title).description(description).build()), author);
+        Long id = results.get(0).getId();
+        taskIds.add(id);
+        return id;
+    }
+
+    private ResultActions search(String query, int page, int size) throws Exception {
+        return mockMvc.perform(get("/api/tasks/search")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(author.getEmail()))
+                .param("q", query)
+                .param("page", String.valueOf(page))
+                .param("size", String.valueOf(size)));
+    }
+
+    @Test
+    void searchTasks_ShouldRankTitleAboveDescriptionAboveCommentAndMarkMatches() throws Exception {
+        // Arrange
+        Long inComment = createTask("Order supplies", "For the zoo.");
+        taskService.createCommentInTask(inComment, CommentDto.builder().text("Do not forget the quokka food").build(), author, null);
+        Long inDescription = createTask("Clean the enclosure", "The quokka enclosure needs fresh straw.");
+        Long inTitle = createTask("Feed the quokka!", "Twice a day.");
+
+        // Act
+        ResultActions result = search("Quokka", 0, 20);
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(inTitle.intValue(), inDescription.intValue(), inComment.intValue())))
+                .andExpect(jsonPath("$.hits[0].title").value("Feed the <mark>quokka</mark>!"))
+                .andExpect(jsonPath("$.hits[0].description").doesNotExist())
+                .andExpect(jsonPath("$.hits[1].title").value("Clean the enclosure"))
+                .andExpect(jsonPath("$.hits[1].description").value("The <mark>quokka</mark> enclosure needs fresh straw."))
+                .andExpect(jsonPath("$.hits[2].comment").value("Do not forget the <mark>quokka</mark> food"))
+                .andExpect(jsonPath("$.next-page").doesNotExist());
+    }
+
+    @Test
+    void searchTasks_ShouldEscapeHtmlOfTextAroundMarks() throws Exception {
+        // Arrange
+        Long task = createTask("<img src=x onerror=alert(1)> quokka & co", "<b>quokka</b>");
+
+        // Act
+        ResultActions result = search("quokka", 0, 20);
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(task.intValue())))
+                .andExpect(jsonPath("$.hits[0].title").value("&lt;img src=x onerror=alert(1)&gt; <mark>quokka</mark> &amp; co"))
+                .andExpect(jsonPath("$.hits[0].description").value("&lt;b&gt;<mark>quokka</mark>&lt;/b&gt;"));
+    }
+
+    @Test
+    void searchTasks_ShouldFindOnlyTasksWithEveryWord() throws Exception {
+        // Arrange
+        Long both = createTask("Paint the fence", "With the red paint.");
+        createTask("Repair the fence", "Two boards are broken.");
+
+        // Act
+        ResultActions result = search("FENCE, paint", 0, 20);
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(both.intValue())))
+                .andExpect(jsonPath("$.hits[0].title").value("<mark>Paint</mark> the <mark>fence</mark>"));
+    }
+
+    @Test
+    void searchTasks_ShouldPageHitsByRank() throws Exception {
+        // Arrange
+        for (int i = 0; i < 5; i++)
+            createTask("Wombat " + i, "wombat ".repeat(i + 1));
+
+        // Act
+        ResultActions firstPage = search("wombat", 0, 2);
+        ResultActions lastPage = search("wombat", 2, 2);
+
+        // Assert
+        firstPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(taskIds.get(4).intValue(), taskIds.get(3).intValue())))
+                .andExpect(jsonPath("$.next-page").value(1));
+        lastPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(taskIds.get(0).intValue())))
+                .andExpect(jsonPath("$.next-page").doesNotExist());
+    }
+
+    @Test
+    void searchTasks_ShouldFollowChangedAndDeletedTasks() throws Exception {
+        // Arrange
+        Long renamed = createTask("Walk the platypus", "In the park.");
+        Long deleted = createTask("Wash the platypus", "In the river.");
+
+        // Act
+        taskService.updateTaskTitleById(renamed, "Walk the echidna", author, null, false);
+        taskService.deleteTaskById(deleted, author, null);
+        taskIds.remove(deleted);
+
+        // Assert
+        search("platypus", 0, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(0)));
+        search("echidna", 0, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[*].id", contains(renamed.intValue())));
+    }
+
+    @Test
+    void searchTasks_WhenQueryBlank_ShouldReturnBadRequest() throws Exception {
+        search(" ", 0, 20).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTasks_WhenPageBeyondPagedHits_ShouldReturnBadRequest() throws Exception {
+        search("wombat", 10, 100).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.taskmanagementsystem.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null)
+            encoder.shutdown();
+    }
+
+    private PasswordEncoder blockingDelegate() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return encodedPassword.startsWith("old:");
+            }
+        };
+    }
+
+    @Test
+    void encodeAndMatches_ShouldDelegateAndRecordTimers() {
+        // Arrange
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 1, meterRegistry);
+
+        // Act
+        String hash = encoder.encode("password");
+        boolean matches = encoder.matches("password", hash);
+
+        // Assert
+        assertEquals("hash:password", hash);
+        assertTrue(matches);
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASHING_TIMER).tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASHING_TIMER).tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.QUEUE_WAIT_TIMER).tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void encode_WhenQueueIsFull_ShouldThrowPasswordHashingRejectedException() throws Exception {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 1, meterRegistry);
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        while (meterRegistry.get(BoundedPasswordEncoder.QUEUE_SIZE_GAUGE).gauge().value() < 1)
+            Thread.onSpinWait();
+
+        // Act & Assert
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("third"));
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.REJECTED_COUNTER).counter().count());
+
+        release.countDown();
+        assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldDelegateWithoutUsingThePool() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 1, meterRegistry);
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding("old:hash"));
+        assertFalse(encoder.upgradeEncoding("hash:password"));
+        assertTrue(meterRegistry.find(BoundedPasswordEncoder.HASHING_TIMER).timers().isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanagementsystem.security;
+
+import com.example.taskmanagementsystem.models.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "user@mail.test";
+
+    private final PrincipalCache principalCache = new PrincipalCache(100, 300);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private AuthenticatedUser load(String email, String password) {
+        loads.incrementAndGet();
+        return new AuthenticatedUser(User.builder().id(1L).email(email).password(password).name("user").build());
+    }
+
+    @Test
+    void get_WhenPrincipalCached_ShouldNotLoadAgain() {
+        // Arrange
+        principalCache.get(EMAIL, email -> load(email, "old"));
+
+        // Act
+        AuthenticatedUser principal = principalCache.get(EMAIL, email -> load(email, "new"));
+
+        // Assert
+        assertEquals("old", principal.getPassword());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenInvalidatedWhileLoading_ShouldNotCacheLoadedPrincipal() {
+        // Arrange
+        AuthenticatedUser stale = principalCache.get(EMAIL, email -> {
+            AuthenticatedUser principal = load(email, "old");
+            // the password changes after the load read the user, before it is cached
+            principalCache.invalidate(email);
+            return principal;
+        });
+
+        // Act
+        AuthenticatedUser principal = principalCache.get(EMAIL, email -> load(email, "new"));
+
+        // Assert
+        assertEquals("old", stale.getPassword());
+        assertEquals("new", principal.getPassword());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenInvalidatedAfterCaching_ShouldLoadAgain() {
+        // Arrange
+        principalCache.get(EMAIL, email -> load(email, "old"));
+        principalCache.invalidate(EMAIL);
+
+        // Act
+        AuthenticatedUser principal = principalCache.get(EMAIL, email -> load(email, "new"));
+
+        // Assert
+        assertEquals("new", principal.getPassword());
+        assertEquals(2, loads.get());
+    }
+}
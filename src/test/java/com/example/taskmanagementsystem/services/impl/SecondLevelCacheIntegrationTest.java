@@ -0,0 +1,219 @@
+package com.example.taskmanagementsystem.services.impl;
+
+import com.example.taskmanagementsystem.dto.comment.CommentDto;
+import com.example.taskmanagementsystem.dto.task.TaskDto;
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.services.TaskService;
+import com.example.taskmanagementsystem.services.TaskVersionMismatchException;
+import com.example.taskmanagementsystem.services.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads served by the second-level cache and writes through the services evicting it.
+ * Every step runs in a transaction of its own, like a request does, so that the cache
+ * rather than the persistence context answers the repeated reads.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User author;
+    private User assignee;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        author = userRepository.save(User.builder().name("author").email("cache-author@mail.test").password("****").build());
+        assignee = userRepository.save(User.builder().name("assignee").email("cache-assignee@mail.test").password("****").build());
+        task = taskRepository.save(Task.builder()
+                .title("Task")
+                .description("task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .author(author)
+                .assignees(new ArrayList<>(List.of(assignee)))
+                .comments(new ArrayList<>())
+                .build());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAllById(List.of(author.getId(), assignee.getId()));
+    }
+
+    private TaskDto findTask(Long id) {
+        return transactionTemplate.execute(status -> taskService.findTaskById(id));
+    }
+
+    private long hits(String region) {
+        return statistics.getDomainDataRegionStatistics(region).getHitCount();
+    }
+
+    @Test
+    void findTaskById_WhenRepeated_ShouldReadTaskAuthorAndAssigneesFromCache() {
+        // Arrange
+        findTask(task.getId());
+        statistics.clear();
+
+        // Act
+        TaskDto found = findTask(task.getId());
+
+        // Assert
+        assertEquals(List.of(assignee.getId()), found.getAssignees().stream().map(User::getId).toList());
+        assertEquals(1, hits(Task.CACHE_REGION));
+        assertEquals(1, hits(Task.ASSIGNEES_CACHE_REGION));
+        assertEquals(2, hits(User.CACHE_REGION));
+    }
+
+    @Test
+    void findByEmail_WhenRepeated_ShouldResolveEmailFromNaturalIdCache() {
+        // Arrange
+        userService.findByEmail(author.getEmail());
+        statistics.clear();
+
+        // Act
+        User found = userService.findByEmail(author.getEmail());
+
+        // Assert
+        assertEquals(author.getId(), found.getId());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateUserEmailByEmail_ShouldEvictPreviousEmail() {
+        // Arrange
+        String oldEmail = author.getEmail();
+        userService.findByEmail(oldEmail);
+
+        // Act
+        userService.updateUserEmailByEmail(oldEmail, "cache-author-new@mail.test");
+
+        // Assert
+        assertThrows(EntityNotFoundException.class, () -> userService.findByEmail(oldEmail));
+        assertEquals(author.getId(), userService.findByEmail("cache-author-new@mail.test").getId());
+        assertEquals("cache-author-new@mail.test", userService.findById(author.getId()).getEmail());
+    }
+
+    @Test
+    void updatesThroughTaskService_ShouldBeVisibleToTheNextRead() {
+        // Arrange
+        findTask(task.getId());
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.updateTaskTitleById(task.getId(), "New title", author, null, false);
+            taskService.removeAssigneeByIdInTask(task.getId(), assignee.getId(), author, null, false);
+            taskService.appendAssigneeByIdInTask(task.getId(), author.getId(), author, null, false);
+        });
+
+        // Assert
+        TaskDto found = findTask(task.getId());
+        assertEquals("New title", found.getTitle());
+        assertEquals(List.of(author.getId()), found.getAssignees().stream().map(User::getId).toList());
+    }
+
+    @Test
+    void appendCommentInTask_ShouldLeaveCachedTaskWithIncrementedVersion() {
+        // Arrange
+        Long version = findTask(task.getId()).getVersion();
+
+        // Act
+        TaskDto changed = transactionTemplate.execute(status -> taskService.appendCommentInTask(
+                task.getId(), CommentDto.builder().text("comment").build(), author, null));
+
+        // Assert
+        Long databaseVersion = taskService.findTaskVersionById(task.getId());
+        assertEquals(version + 1, databaseVersion);
+        assertEquals(databaseVersion, changed.getVersion());
+        assertEquals(databaseVersion, findTask(task.getId()).getVersion());
+    }
+
+    @Test
+    void updateTaskTitleById_WhenTaskChangedAfterExpectedVersionWasRead_ShouldThrowAndKeepTheOtherChange() {
+        // Arrange
+        Long version = findTask(task.getId()).getVersion();
+        transactionTemplate.executeWithoutResult(status ->
+                taskService.updateTaskTitleById(task.getId(), "Other title", author, version, false));
+
+        // Act
+        TaskVersionMismatchException mismatch = assertThrows(TaskVersionMismatchException.class,
+                () -> transactionTemplate.executeWithoutResult(status ->
+                        taskService.updateTaskTitleById(task.getId(), "Lost title", author, version, false)));
+
+        // Assert
+        assertEquals(version + 1, mismatch.getCurrentVersion());
+        assertEquals("Other title", findTask(task.getId()).getTitle());
+    }
+
+    @Test
+    void createCommentInTask_WhenExpectedVersionIsCurrent_ShouldIncrementVersion() {
+        // Arrange
+        Long version = findTask(task.getId()).getVersion();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> taskService.createCommentInTask(
+                task.getId(), CommentDto.builder().text("comment").build(), author, version));
+
+        // Assert
+        assertEquals(version + 1, taskService.findTaskVersionById(task.getId()));
+        assertThrows(TaskVersionMismatchException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> taskService.deleteTaskById(
+                        task.getId(), author, version)));
+        assertTrue(taskRepository.existsById(task.getId()));
+    }
+
+    @Test
+    void deleteTasksByIds_ShouldEvictDeletedTasks() {
+        // Arrange
+        findTask(task.getId());
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> taskService.deleteTasksByIds(List.of(task.getId()), author));
+
+        // Assert
+        assertThrows(EntityNotFoundException.class, () -> findTask(task.getId()));
+    }
+}
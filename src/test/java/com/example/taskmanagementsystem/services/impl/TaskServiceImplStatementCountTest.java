@@ -0,0 +1,217 @@
+package com.example.taskmanagementsystem.services.impl;
+
+import com.example.taskmanagementsystem.dto.task.TaskDto;
+import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskFilter;
+import com.example.taskmanagementsystem.dto.task.TaskResponse;
+import com.example.taskmanagementsystem.dto.task.TaskWriteResult;
+import com.example.taskmanagementsystem.models.*;
+import com.example.taskmanagementsystem.repositories.CommentRepository;
+import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.UserRepository;
+import com.example.taskmanagementsystem.services.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the task list paths cost a constant number of SQL statements,
+ * however many tasks, assignees and comments are converted, and that a write
+ * answered without the task does not load it.
+ *
+ * @author Yina-ship-it
+ * @since 18.10.2026
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@Transactional
+class TaskServiceImplStatementCountTest {
+
+    private static final int MAX_STATEMENTS = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskDtoConverter taskDtoConverter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(User.builder().name("user" + i).email("user" + i + "@mail.test").password("****").build());
+        }
+        users = userRepository.saveAll(users);
+    }
+
+    private void createTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .title("Task " + i)
+                    .description("task " + i)
+                    .status(TaskStatus.PENDING)
+                    .priority(TaskPriority.LOW)
+                    .author(users.get(i % 2))
+                    .assignees(new ArrayList<>(List.of(users.get(2 + i % 8), users.get(2 + (i + 1) % 8), users.get(0))))
+                    .comments(new ArrayList<>())
+                    .build());
+            for (int j = 0; j < 5; j++) {
+                commentRepository.save(Comment.builder()
+                        .task(task)
+                        .text("Comment " + j)
+                        .dateTime(LocalDateTime.now().plusMinutes(j))
+                        .commentator(users.get(j))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Supplier<List<TaskResponse>> listing, int expectedSize) {
+        statistics.clear();
+        List<TaskResponse> responses = listing.get();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        assertEquals(expectedSize, responses.size());
+        responses.forEach(response -> {
+            assertEquals(3, response.getAssignees().size());
+            assertEquals(5, response.getComments().size());
+        });
+        return statements;
+    }
+
+    private List<TaskResponse> toResponses(List<TaskDto> tasks) {
+        return tasks.stream().map(taskDtoConverter::convertDtoToResponse).toList();
+    }
+
+    @Test
+    void findAllTasksByAuthor_ShouldUseConstantNumberOfStatements() {
+        // Arrange
+        createTasks(40);
+        User author = users.get(0);
+
+        // Act
+        long statements = countStatements(() -> toResponses(taskService.findAllTasksByAuthor(author)), 20);
+
+        // Assert
+        assertTrue(statements <= MAX_STATEMENTS, "Executed " + statements + " statements");
+    }
+
+    @Test
+    void findAllTasksByAssignee_ShouldUseConstantNumberOfStatements() {
+        // Arrange
+        createTasks(40);
+        User assignee = users.get(0);
+
+        // Act
+        long statements = countStatements(() -> toResponses(taskService.findAllTasksByAssignee(assignee)), 40);
+
+        // Assert
+        assertTrue(statements <= MAX_STATEMENTS, "Executed " + statements + " statements");
+    }
+
+    @Test
+    void findTasksPage_ShouldNotDependOnPageSize() {
+        // Arrange
+        createTasks(40);
+
+        // Act
+        long smallPage = countStatements(
+                () -> toResponses(taskService.findTasksPage(new TaskFilter(), null, 5)), 5);
+        long largePage = countStatements(
+                () -> toResponses(taskService.findTasksPage(new TaskFilter(), null, 40)), 40);
+
+        // Assert
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= MAX_STATEMENTS, "Executed " + largePage + " statements");
+    }
+
+    @Test
+    void deleteTasksByIds_ShouldNotDependOnTaskOrCommentCount() {
+        // Arrange
+        createTasks(45);
+        List<Long> ids = taskRepository.findAll().stream().map(Task::getId).sorted().toList();
+        User author = users.get(0);
+        List<Long> authorTaskIds = taskRepository.findAllWithDetailsByAuthor(author).stream().map(Task::getId).toList();
+        entityManager.clear();
+
+        // Act
+        statistics.clear();
+        taskService.deleteTasksByIds(authorTaskIds.subList(0, 2), author);
+        long fewTasks = statistics.getPrepareStatementCount();
+        statistics.clear();
+        taskService.deleteTasksByIds(authorTaskIds.subList(2, authorTaskIds.size()), author);
+        long manyTasks = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(fewTasks, manyTasks);
+        assertTrue(manyTasks <= MAX_STATEMENTS, "Executed " + manyTasks + " statements");
+        assertEquals(ids.size() - authorTaskIds.size(), taskRepository.count());
+        assertEquals((ids.size() - authorTaskIds.size()) * 5, commentRepository.count());
+    }
+
+    @Test
+    void updateTaskTitleById_WithoutRepresentation_ShouldNotLoadAssignees() {
+        // Arrange
+        createTasks(1);
+        Task task = taskRepository.findAll().get(0);
+        User author = task.getAuthor();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act
+        statistics.clear();
+        TaskWriteResult minimal = taskService.updateTaskTitleById(task.getId(), "Minimal title", author, null, false);
+        long minimalStatements = statistics.getPrepareStatementCount();
+        long minimalCollectionLoads = statistics.getCollectionLoadCount();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        TaskWriteResult representation = taskService.updateTaskTitleById(task.getId(), "Full title", author, null, true);
+        long representationCollectionLoads = statistics.getCollectionLoadCount();
+
+        // Assert
+        assertNull(minimal.getTask());
+        assertEquals(task.getVersion() + 1, minimal.getVersion());
+        assertEquals(0, minimalCollectionLoads, "the assignees were loaded for a minimal write");
+        assertTrue(minimalStatements <= 3, "Executed " + minimalStatements + " statements");
+        assertEquals(1, representationCollectionLoads);
+        assertEquals(3, representation.getTask().getAssignees().size());
+        assertEquals(representation.getVersion(), representation.getTask().getVersion());
+    }
+}
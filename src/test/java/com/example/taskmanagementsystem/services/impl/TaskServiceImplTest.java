@@ -1,20 +1,29 @@
 package com.example.taskmanagementsystem.services.impl;
 
+import com.example.taskmanagementsystem.dto.task.TaskBatchResult;
 import com.example.taskmanagementsystem.dto.task.TaskDto;
 import com.example.taskmanagementsystem.dto.task.TaskDtoConverter;
+import com.example.taskmanagementsystem.dto.task.TaskFilter;
+import com.example.taskmanagementsystem.dto.task.TaskRequest;
 import com.example.taskmanagementsystem.models.Task;
 import com.example.taskmanagementsystem.models.TaskPriority;
 import com.example.taskmanagementsystem.models.TaskStatus;
 import com.example.taskmanagementsystem.models.User;
 import com.example.taskmanagementsystem.repositories.TaskRepository;
+import com.example.taskmanagementsystem.repositories.projections.TaskAuthorIdView;
+import com.example.taskmanagementsystem.repositories.projections.TaskStatusView;
 import com.example.taskmanagementsystem.services.CommentService;
 import com.example.taskmanagementsystem.services.UserService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
 
@@ -40,89 +49,51 @@ class TaskServiceImplTest {
     @Mock
     CommentService commentService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    EntityManager entityManager;
+
     @InjectMocks
     TaskServiceImpl taskService;
 
     @Test
-    void findAllTasks_WhenTasksExist_ShouldReturnListOfTaskDto() {
+    void findTasksPage_WithoutCursor_ShouldReadFirstPageWithFilters() {
         // Arrange
         User user1 = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
-        User user2 = User.builder().id(2L).name("maksim2").email("maksim2@mail.test").password("****").build();
-        User user3 = User.builder().id(3L).name("maksim2").email("maksim3@mail.test").password("****").build();
-
-        Task task1 = Task.builder()
-                .id(1L)
-                .title("TestTask1")
-                .description("task 1")
-                .priority(TaskPriority.MEDIUM)
-                .status(TaskStatus.IN_PROGRESS)
-                .author(user1)
-                .assignees(new ArrayList<>(List.of(user2, user3)))
-                .build();
 
-        Task task2 = Task.builder()
-                .id(2L)
-                .title("TestTask2")
-                .description("task 2")
-                .priority(TaskPriority.LOW)
-                .status(TaskStatus.COMPLETED)
-                .author(user2)
-                .assignees(new ArrayList<>(List.of(user1, user3)))
-                .build();
-
-        List<Task> tasks = List.of(task1, task2);
-
-        TaskDto taskDto1 = TaskDto.builder()
+        Task task = Task.builder()
                 .id(1L)
-                .title("TestTask1")
-                .description("task 1")
-                .priority(TaskPriority.MEDIUM)
-                .status(TaskStatus.IN_PROGRESS)
+                .title("TestTask")
+                .priority(TaskPriority.HIGH)
+                .status(TaskStatus.PENDING)
                 .author(user1)
-                .assignees(List.of(user2, user3))
-                .build();
-
-        TaskDto taskDto2 = TaskDto.builder()
-                .id(2L)
-                .title("TestTask2")
-                .description("task 2")
-                .priority(TaskPriority.LOW)
-                .status(TaskStatus.COMPLETED)
-                .author(user2)
-                .assignees(List.of(user1, user3))
                 .build();
+        TaskDto taskDto = TaskDto.builder().id(1L).title("TestTask").build();
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.PENDING).authorId(1L).build();
 
-        when(taskRepository.findAll()).thenReturn(tasks);
-        when(taskDtoConverter.convertEntityToDto(task1)).thenReturn(taskDto1);
-        when(taskDtoConverter.convertEntityToDto(task2)).thenReturn(taskDto2);
+        when(taskRepository.findPageAfter(0L, TaskStatus.PENDING, null, 1L, null, Limit.of(10)))
+                .thenReturn(List.of(task));
+        when(taskDtoConverter.convertEntityToDto(task)).thenReturn(taskDto);
 
         // Act
-        List<TaskDto> result = taskService.findAllTasks();
+        List<TaskDto> result = taskService.findTasksPage(filter, null, 10);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(tasks.size(), result.size());
-        assertEquals(task1.getId(), result.get(0).getId());
-        assertEquals(task2.getId(), result.get(1).getId());
-
-        verify(taskRepository, times(1)).findAll();
-        verify(taskDtoConverter, times(2)).convertEntityToDto(any(Task.class));
+        assertEquals(List.of(taskDto), result);
+        verify(taskRepository, times(1)).findPageAfter(0L, TaskStatus.PENDING, null, 1L, null, Limit.of(10));
     }
 
     @Test
-    void findAllTasks_WhenTasksNonExist_ShouldReturnListOfTaskDto() {
-        // Arrange
-        when(taskRepository.findAll()).thenReturn(List.of());
-
-        // Act
-        List<TaskDto> result = taskService.findAllTasks();
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(0, result.size());
+    void findTasksPage_WhenSizeOutOfRange_ShouldThrowException() {
+        // Act && Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.findTasksPage(new TaskFilter(), null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.findTasksPage(new TaskFilter(), null, TaskServiceImpl.MAX_PAGE_SIZE + 1));
 
-        verify(taskRepository, times(1)).findAll();
-        verify(taskDtoConverter, times(0)).convertEntityToDto(any(Task.class));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -183,6 +154,42 @@ class TaskServiceImplTest {
         verify(taskRepository, times(1)).findById(id);
     }
 
+    @Test
+    void findTaskIdById_WhenTaskNonExist_ShouldThrowExceptionWithoutLoadingTask() {
+        // Arrange
+        long id = 1L;
+
+        when(taskRepository.existsById(id)).thenReturn(false);
+
+        // Act && Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> taskService.findTaskIdById(id)
+        );
+
+        verify(taskRepository, never()).findById(id);
+    }
+
+    @Test
+    void findTaskStatusById_WhenTaskExist_ShouldReturnProjectedStatusAndVersion() {
+        // Arrange
+        long id = 1L;
+        TaskStatusView view = mock(TaskStatusView.class);
+
+        when(view.getStatus()).thenReturn(TaskStatus.COMPLETED);
+        when(view.getVersion()).thenReturn(3L);
+        when(taskRepository.findProjectedById(id, TaskStatusView.class)).thenReturn(Optional.of(view));
+
+        // Act
+        TaskStatusView result = taskService.findTaskStatusById(id);
+
+        // Assert
+        assertEquals(TaskStatus.COMPLETED, result.getStatus());
+        assertEquals(3L, result.getVersion());
+
+        verify(taskRepository, never()).findById(id);
+        verifyNoInteractions(taskDtoConverter);
+    }
+
     @Test
     void createTask_WhenTaskDTOWithValidData_ShouldCreateTaskAndReturnTaskDto() {
         // Arrange
@@ -337,6 +344,86 @@ class TaskServiceImplTest {
         );
     }
 
+    @Test
+    void createTasks_ShouldResolveAllAssigneesWithOneLookupPerKind() {
+        // Arrange
+        User author = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
+        User user2 = User.builder().id(2L).name("maksim2").email("maksim2@mail.test").password("****").build();
+        User user3 = User.builder().id(3L).name("maksim3").email("maksim3@mail.test").password("****").build();
+
+        TaskRequest request1 = TaskRequest.builder().title("TestTask1").build();
+        TaskRequest request2 = TaskRequest.builder().title("TestTask2").build();
+        TaskDto taskDto1 = TaskDto.builder().title("TestTask1")
+                .assignees(new ArrayList<>(List.of(User.builder().id(2L).build()))).build();
+        TaskDto taskDto2 = TaskDto.builder().title("TestTask2")
+                .assignees(new ArrayList<>(List.of(User.builder().id(2L).build(),
+                        User.builder().email("maksim3@mail.test").build()))).build();
+        Task task1 = Task.builder().title("TestTask1").author(author).build();
+        Task task2 = Task.builder().title("TestTask2").author(author).build();
+
+        when(taskDtoConverter.convertRequestToDto(request1)).thenReturn(taskDto1);
+        when(taskDtoConverter.convertRequestToDto(request2)).thenReturn(taskDto2);
+        when(taskDtoConverter.convertDtoToEntity(taskDto1)).thenReturn(task1);
+        when(taskDtoConverter.convertDtoToEntity(taskDto2)).thenReturn(task2);
+        when(userService.findAllByIds(Set.of(2L))).thenReturn(List.of(user2));
+        when(userService.findAllByEmails(Set.of("maksim3@mail.test"))).thenReturn(List.of(user3));
+        when(taskRepository.saveAll(List.of(task1, task2))).thenAnswer(invocation -> {
+            task1.setId(10L);
+            task2.setId(11L);
+            return List.of(task1, task2);
+        });
+
+        // Act
+        List<TaskBatchResult> result = taskService.createTasks(List.of(request1, request2), author);
+
+        // Assert
+        assertEquals(List.of(TaskBatchResult.created(0, 10L), TaskBatchResult.created(1, 11L)), result);
+        assertEquals(author, taskDto1.getAuthor());
+        assertEquals(List.of(user2), task1.getAssignees());
+        assertEquals(List.of(user2, user3), task2.getAssignees());
+
+        verify(userService, times(1)).findAllByIds(any());
+        verify(userService, times(1)).findAllByEmails(any());
+        verify(userService, never()).findById(any());
+        verify(userService, never()).findByEmail(any());
+    }
+
+    @Test
+    void createTasks_ShouldFlushAndClearAfterEachJdbcBatch() {
+        // Arrange
+        User author = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TaskRequest request = TaskRequest.builder().title("TestTask" + i).build();
+            TaskDto taskDto = TaskDto.builder().title("TestTask" + i).assignees(new ArrayList<>()).build();
+            when(taskDtoConverter.convertRequestToDto(request)).thenReturn(taskDto);
+            when(taskDtoConverter.convertDtoToEntity(taskDto)).thenReturn(
+                    Task.builder().id((long) i).title("TestTask" + i).author(author).assignees(new ArrayList<>()).build());
+            requests.add(request);
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch;
+        });
+
+        // Act
+        List<TaskBatchResult> result = taskService.createTasks(requests, author);
+
+        // Assert
+        assertEquals(120, result.size());
+        assertEquals(TaskBatchResult.created(119, 119L), result.get(119));
+        assertEquals(List.of(50, 50, 20), batchSizes);
+
+        InOrder inOrder = inOrder(taskRepository, entityManager);
+        for (int i = 0; i < batchSizes.size(); i++) {
+            inOrder.verify(taskRepository).saveAll(anyList());
+            inOrder.verify(entityManager).flush();
+            inOrder.verify(entityManager).clear();
+        }
+    }
+
     @Test
     void deleteTaskById_WhenTaskExist_ShouldReturnTaskDto() {
         // Arrange
@@ -357,15 +444,82 @@ class TaskServiceImplTest {
                 .build();
 
         when(taskRepository.findById(id)).thenReturn(Optional.of(task));
-        when(commentService.deleteAllCommentsInTask(task)).thenReturn(task);
 
         // Act
-        taskService.deleteTaskById(id, user1);
+        taskService.deleteTaskById(id, user1, null);
 
         // Assert
 
         verify(taskRepository, times(1)).findById(id);
-        verify(taskRepository, times(1)).delete(any(Task.class));
+        verify(commentService, times(1)).deleteAllCommentsInTasks(List.of(id));
+        verify(taskRepository, times(1)).deleteAllByIdIn(List.of(id));
+    }
+
+    @Test
+    void deleteTasksByIds_WhenUserIsAuthorOfAllTasks_ShouldDeleteThemWithBulkStatements() {
+        // Arrange
+        User author = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
+        List<Long> ids = List.of(1L, 2L, 2L);
+
+        when(taskRepository.findAuthorIdsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(authorIdView(1L, 1L), authorIdView(2L, 1L)));
+
+        // Act
+        int deleted = taskService.deleteTasksByIds(ids, author);
+
+        // Assert
+        assertEquals(2, deleted);
+        verify(commentService, times(1)).deleteAllCommentsInTasks(List.of(1L, 2L));
+        verify(taskRepository, times(1)).deleteAllByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void deleteTasksByIds_WhenAnotherAuthor_ShouldThrowExceptionAndDeleteNothing() {
+        // Arrange
+        User author = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
+
+        when(taskRepository.findAuthorIdsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(authorIdView(1L, 1L), authorIdView(2L, 2L)));
+
+        // Act && Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.deleteTasksByIds(List.of(1L, 2L), author));
+
+        verify(commentService, never()).deleteAllCommentsInTasks(any());
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    void deleteTasksByIds_WhenTaskNonExist_ShouldThrowException() {
+        // Arrange
+        User author = User.builder().id(1L).name("maksim1").email("maksim1@mail.test").password("****").build();
+
+        when(taskRepository.findAuthorIdsByIdIn(List.of(1L, 2L))).thenReturn(List.of(authorIdView(1L, 1L)));
+
+        // Act && Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> taskService.deleteTasksByIds(List.of(1L, 2L), author));
+
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+    }
+
+    private TaskAuthorIdView authorIdView(Long id, Long authorId) {
+        return new TaskAuthorIdView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getAuthorId() {
+                return authorId;
+            }
+
+            @Override
+            public Long getAssigneeId() {
+                return null;
+            }
+        };
     }
 
     @Test
@@ -379,7 +533,7 @@ class TaskServiceImplTest {
 
         // Act && Assert
         assertThrows(EntityNotFoundException.class,
-                () -> taskService.deleteTaskById(id, user1)
+                () -> taskService.deleteTaskById(id, user1, null)
         );
 
         verify(taskRepository, times(1)).findById(id);
@@ -408,7 +562,7 @@ class TaskServiceImplTest {
 
         // Act && Assert
         assertThrows(IllegalArgumentException.class,
-                () -> taskService.deleteTaskById(id,user1)
+                () -> taskService.deleteTaskById(id,user1, null)
         );
 
         verify(taskRepository, times(1)).findById(id);